@@ -0,0 +1,96 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.dto.request.BulkUpdateStatusDTO;
+import com.hackathon_AI.dto.request.CreateTaskDTO;
+import com.hackathon_AI.dto.request.UpdateTaskDTO;
+import com.hackathon_AI.dto.response.BulkUpdateResultDTO;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.services.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving a whole column to another status: one TaskService.updateTask call per task
+ * (findById + save each) against a single set-based updateTasksStatus call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkStatusUpdateBenchmark {
+    private static final int USERS = 10;
+
+    @Param({"100", "1000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<Integer> taskIds;
+    private boolean completed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they win over application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:bulk-status-" + tasks,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        List<CreateTaskDTO> column = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            CreateTaskDTO task = new CreateTaskDTO();
+            task.setTitle("Review task " + i);
+            task.setDescription("Waiting for review");
+            task.setEndDate(LocalDate.now().plusDays(7));
+            // data.sql seeds users 1..10
+            task.setCreatorId(1 + i % USERS);
+            task.setAssigneeId(1 + (i + 1) % USERS);
+            task.setTags(List.of("revisão"));
+            task.setPriority("MEDIUM");
+            task.setStatus(TaskStatus.REVIEW);
+            column.add(task);
+        }
+        taskIds = taskService.createTasks(column).stream().map(TaskDTO::getId).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perTaskLoop() {
+        UpdateTaskDTO update = new UpdateTaskDTO();
+        update.setStatus(nextStatus());
+        int updated = 0;
+        for (Integer taskId : taskIds) {
+            taskService.updateTask(taskId, update, null);
+            updated++;
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public BulkUpdateResultDTO setBased() {
+        return taskService.updateTasksStatus(new BulkUpdateStatusDTO(taskIds, nextStatus()));
+    }
+
+    // alternate so every invocation really changes the rows
+    private TaskStatus nextStatus() {
+        completed = !completed;
+        return completed ? TaskStatus.COMPLETED : TaskStatus.REVIEW;
+    }
+}
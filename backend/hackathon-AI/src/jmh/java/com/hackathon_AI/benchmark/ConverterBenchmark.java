@@ -0,0 +1,132 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.dto.request.CreateUserDTO;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.utils.Converter;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.config.Configuration.AccessLevel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflective ModelMapper conversion against the MapStruct-generated mappers behind Converter,
+ * over 10k-element lists. The ModelMapper baseline maps to fields, since UserDTO has no setters. Scores are per element; run with {@code -prof gc} and read
+ * gc.alloc.rate.norm for the bytes allocated per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ConverterBenchmark.ELEMENTS)
+public class ConverterBenchmark {
+    static final int ELEMENTS = 10_000;
+    // boards have far fewer people than tasks, so creators and assignees repeat
+    private static final int DISTINCT_USERS = 100;
+
+    private ConfigurableApplicationContext context;
+    private Converter converter;
+    private ModelMapper modelMapper;
+    private List<CreateUserDTO> createUsers;
+    private List<User> users;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:converter",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        converter = context.getBean(Converter.class);
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(AccessLevel.PRIVATE);
+
+        createUsers = new ArrayList<>(ELEMENTS);
+        users = new ArrayList<>(ELEMENTS);
+        tasks = new ArrayList<>(ELEMENTS);
+        for (int i = 0; i < ELEMENTS; i++) {
+            createUsers.add(new CreateUserDTO("First" + i, "Last" + i, LocalDate.of(1990, 1, 1).plusDays(i)));
+            users.add(new User(i + 1, "First" + i, "Last" + i, LocalDate.of(1990, 1, 1).plusDays(i), null));
+        }
+        for (int i = 0; i < ELEMENTS; i++) {
+            Task task = new Task();
+            task.setId(i + 1);
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setEndDate(LocalDate.now().plusDays(i % 30));
+            task.setCreator(users.get(i % DISTINCT_USERS));
+            task.setAssignee(users.get((i + 1) % DISTINCT_USERS));
+            task.setTags(new ArrayList<>(List.of("tag" + i % 10, "shared")));
+            task.setPriority(Priority.MEDIUM);
+            task.setStatus(TaskStatus.PENDING);
+            task.setCreatedAt(LocalDateTime.now());
+            task.setUpdatedAt(LocalDateTime.now());
+            tasks.add(task);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> modelMapperCreateUsers() {
+        return mapAll(createUsers, User.class);
+    }
+
+    @Benchmark
+    public List<User> generatedCreateUsers() {
+        List<User> converted = new ArrayList<>(createUsers.size());
+        for (CreateUserDTO dto : createUsers) {
+            converted.add(converter.toUser(dto));
+        }
+        return converted;
+    }
+
+    @Benchmark
+    public List<UserDTO> modelMapperUsers() {
+        return mapAll(users, UserDTO.class);
+    }
+
+    @Benchmark
+    public List<UserDTO> generatedUsers() {
+        return converter.toUserDTOList(users);
+    }
+
+    @Benchmark
+    public List<TaskDTO> modelMapperTasks() {
+        return mapAll(tasks, TaskDTO.class);
+    }
+
+    @Benchmark
+    public List<TaskDTO> generatedTasks() {
+        return converter.toTaskResponseDTOList(tasks);
+    }
+
+    private <S, T> List<T> mapAll(List<S> sources, Class<T> targetClass) {
+        List<T> converted = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            converted.add(modelMapper.map(source, targetClass));
+        }
+        return converted;
+    }
+}
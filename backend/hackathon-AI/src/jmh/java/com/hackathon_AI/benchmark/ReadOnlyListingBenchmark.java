@@ -0,0 +1,97 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.repositories.TaskRepository;
+import com.hackathon_AI.services.TaskService;
+import com.hackathon_AI.utils.Converter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/tasks over 5k tasks with two tags each, as TaskService.listAllTasks maps them:
+ * inside its read-only transaction, inside a read-write one (entity snapshots, dirty check and
+ * flush on commit), and the earlier shape with only the repository's own transaction.
+ * Run with -prof gc for the bytes allocated per listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReadOnlyListingBenchmark {
+
+    @Param({"5000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private Converter converter;
+    private TransactionTemplate readWrite;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they win over application.properties
+                // H2 would otherwise hand back the cached result of a repeated identical query
+                .run("--spring.datasource.url=jdbc:h2:mem:read-only-listing-" + tasks + ";OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // data.sql seeds users 1..10, tasks 1..10 and tags 1..16
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, end_date, creator_id, assignee_id, priority, status, created_at)
+                SELECT X + 1000, 'Task ' || X, 'Generated by the benchmark', DATEADD('DAY', MOD(X, 60), CURRENT_DATE),
+                       1 + MOD(X, 10), 1 + MOD(X / 7, 10), MOD(X, 3), 'PENDING', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, tasks);
+        jdbcTemplate.update("""
+                INSERT INTO task_tags (task_id, tag_id)
+                SELECT X + 1000, 1 + MOD(X, 16) FROM SYSTEM_RANGE(1, ?)
+                UNION ALL
+                SELECT X + 1000, 1 + MOD(X + 5, 16) FROM SYSTEM_RANGE(1, ?)
+                """, tasks, tasks);
+
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        converter = context.getBean(Converter.class);
+        readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        if (readOnlyTransaction().size() != readWriteTransaction().size()
+                || readOnlyTransaction().size() != repositoryTransactionOnly().size()) {
+            throw new IllegalStateException("Listings disagree");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> readOnlyTransaction() {
+        return taskService.listAllTasks();
+    }
+
+    @Benchmark
+    public List<TaskDTO> readWriteTransaction() {
+        // the service's read-only transaction joins this one, which stays read-write
+        return readWrite.execute(status -> taskService.listAllTasks());
+    }
+
+    @Benchmark
+    public List<TaskDTO> repositoryTransactionOnly() {
+        return converter.toTaskResponseDTOList(taskRepository.findAllWithUsersAndTags());
+    }
+}
@@ -0,0 +1,78 @@
+package com.hackathon_AI.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of TaskDTO lists, the body of every task listing, written to a
+ * discarding stream the way the message converter writes to the response. Run with
+ * {@code -prof gc}; the UserDTO age is derived during serialization and shows up here too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int DISTINCT_USERS = 100;
+
+    @Param({"1", "100", "10000"})
+    public int tasks;
+
+    private ObjectMapper objectMapper;
+    private List<TaskDTO> taskList;
+    private final OutputStream discard = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // ISO dates, as Spring Boot configures the application's ObjectMapper; the shared
+        // stream stays open between calls, as the response stream is left to the container
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+
+        List<UserDTO> users = new ArrayList<>(DISTINCT_USERS);
+        for (int i = 0; i < DISTINCT_USERS; i++) {
+            users.add(UserDTO.builder().id(i + 1).firstName("First" + i).lastName("Last" + i)
+                    .birthDate(LocalDate.of(1990, 1, 1).plusDays(i)).build());
+        }
+        taskList = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            taskList.add(TaskDTO.builder()
+                    .id(i + 1)
+                    .title("Task " + i)
+                    .description("Description of task " + i)
+                    .endDate(LocalDate.now().plusDays(i % 30))
+                    .creator(users.get(i % DISTINCT_USERS))
+                    .assignee(users.get((i + 1) % DISTINCT_USERS))
+                    .tags(List.of("tag" + i % 10, "shared"))
+                    .priority(Priority.MEDIUM)
+                    .status(TaskStatus.PENDING)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void writeTaskList() throws IOException {
+        objectMapper.writeValue(discard, taskList);
+    }
+}
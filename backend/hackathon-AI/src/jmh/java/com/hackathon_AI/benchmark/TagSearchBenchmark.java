@@ -0,0 +1,112 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.index.TagIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Substring tag search at 1M task_tags rows: the LOWER(tag) LIKE '%x%' scan that
+ * TaskRepository.findTasksByTagsContaining used to run, against the in-memory TagIndex.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagSearchBenchmark {
+    private static final int TASKS = 200_000;
+    private static final int TAGS_PER_TASK = 5;
+    private static final int DISTINCT_TAGS = 5_000;
+    private static final String[] SYLLABLES = {
+            "ca", "sa", "tra", "ba", "lho", "re", "vi", "são", "com", "pras",
+            "lim", "pe", "za", "mer", "do", "fes", "ta", "ju", "ni", "or"
+    };
+
+    @Param({"casa", "lim", "xyz"})
+    public String pattern;
+
+    private Connection connection;
+    private PreparedStatement likeQuery;
+    private TagIndex tagIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:tag-search;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS task_tags");
+            statement.execute("CREATE TABLE task_tags (task_id INTEGER NOT NULL, tag VARCHAR(30))");
+        }
+
+        List<String> vocabulary = vocabulary(new Random(42));
+        Random random = new Random(7);
+        tagIndex = new TagIndex();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO task_tags (task_id, tag) VALUES (?, ?)")) {
+            for (int taskId = 1; taskId <= TASKS; taskId++) {
+                List<String> tags = new ArrayList<>(TAGS_PER_TASK);
+                for (int i = 0; i < TAGS_PER_TASK; i++) {
+                    String tag = vocabulary.get(random.nextInt(vocabulary.size()));
+                    tags.add(tag);
+                    insert.setInt(1, taskId);
+                    insert.setString(2, tag);
+                    insert.addBatch();
+                }
+                tagIndex.index(taskId, tags);
+                if (taskId % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        connection.commit();
+        likeQuery = connection.prepareStatement(
+                "SELECT DISTINCT task_id FROM task_tags WHERE LOWER(tag) LIKE LOWER(CONCAT('%', ?, '%'))");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public Set<Integer> likeScan() throws SQLException {
+        likeQuery.setString(1, pattern);
+        Set<Integer> taskIds = new HashSet<>();
+        try (ResultSet resultSet = likeQuery.executeQuery()) {
+            while (resultSet.next()) {
+                taskIds.add(resultSet.getInt(1));
+            }
+        }
+        return taskIds;
+    }
+
+    @Benchmark
+    public Set<Integer> trigramIndex() {
+        return tagIndex.findTaskIds(pattern);
+    }
+
+    private static List<String> vocabulary(Random random) {
+        Set<String> tags = new HashSet<>();
+        while (tags.size() < DISTINCT_TAGS) {
+            StringBuilder tag = new StringBuilder();
+            int syllables = 2 + random.nextInt(3);
+            for (int i = 0; i < syllables; i++) {
+                tag.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            tags.add(tag.toString());
+        }
+        return new ArrayList<>(tags);
+    }
+}
@@ -0,0 +1,86 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.dto.request.CreateTaskDTO;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.services.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importing 10k tasks: one createTask call per task (what the importers do through
+ * POST /api/tasks) against a single createTasks call (POST /api/tasks/batch), with
+ * JDBC batching off (batch_size=1) and on (batch_size=50).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TaskBatchInsertBenchmark {
+    private static final int TASKS = 10_000;
+    private static final int USERS = 10;
+
+    @Param({"1", "50"})
+    public String jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<CreateTaskDTO> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they win over application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:batch-insert-" + jdbcBatchSize,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+
+        tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            CreateTaskDTO task = new CreateTaskDTO();
+            task.setTitle("Imported task " + i);
+            task.setDescription("Imported from the benchmark");
+            task.setEndDate(LocalDate.now().plusDays(7));
+            // data.sql seeds users 1..10
+            task.setCreatorId(1 + i % USERS);
+            task.setAssigneeId(1 + (i + 1) % USERS);
+            task.setTags(List.of("trabalho", "import" + i % 20));
+            task.setPriority("MEDIUM");
+            task.setStatus(TaskStatus.PENDING);
+            tasks.add(task);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int perTaskCreate() {
+        int created = 0;
+        for (CreateTaskDTO task : tasks) {
+            taskService.createTask(task);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<TaskDTO> batchCreate() {
+        return taskService.createTasks(tasks);
+    }
+}
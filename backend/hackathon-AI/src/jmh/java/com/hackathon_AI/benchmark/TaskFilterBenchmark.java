@@ -0,0 +1,120 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.index.TaskFilter;
+import com.hackathon_AI.index.TaskFilterIndex;
+import com.hackathon_AI.index.TaskIndexSynchronizer;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "(PENDING or REVIEW) and HIGH and assignee in (2, 5)" over 1M tasks: bitmap intersections
+ * in TaskFilterIndex against the equivalent JPQL, for the first page of ids and for the count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskFilterBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final List<TaskStatus> STATUSES = List.of(TaskStatus.PENDING, TaskStatus.REVIEW);
+    private static final List<Priority> PRIORITIES = List.of(Priority.HIGH);
+    private static final List<Integer> ASSIGNEES = List.of(2, 5);
+
+    @Param({"1000000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private TaskFilterIndex taskFilterIndex;
+    private TaskFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they win over application.properties
+                // H2 would otherwise hand back the cached result of a repeated identical query
+                .run("--spring.datasource.url=jdbc:h2:mem:task-filter-" + tasks + ";OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        // data.sql seeds users 1..10 and tasks 1..10
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO tasks (id, title, description, end_date, creator_id, assignee_id, priority, status, created_at)
+                SELECT X + 1000, 'Task ' || X, 'Generated by the benchmark', DATEADD('DAY', MOD(X, 60), CURRENT_DATE),
+                       1 + MOD(X, 10), 1 + MOD(X / 7, 10),
+                       MOD(X, 3), -- the Priority ordinal
+                       CASE MOD(X / 3, 4) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'IN_PROGRESS'
+                                          WHEN 2 THEN 'COMPLETED' ELSE 'REVIEW' END,
+                       CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, tasks);
+        // filled the same way the application fills it on startup
+        context.getBean(TaskIndexSynchronizer.class).rebuild();
+
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        taskFilterIndex = context.getBean(TaskFilterIndex.class);
+        filter = TaskFilter.of(STATUSES, PRIORITIES.stream().map(Priority::name).toList(), ASSIGNEES);
+        if (!bitmapFirstPage().equals(jpqlFirstPage()) || bitmapCount() != jpqlCount()) {
+            throw new IllegalStateException("Bitmap index and JPQL disagree");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Integer> bitmapFirstPage() {
+        return taskFilterIndex.findPage(filter, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Integer> jpqlFirstPage() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT t.id FROM Task t WHERE t.status IN :statuses "
+                            + "AND t.priority IN :priorities AND t.assignee.id IN :assignees ORDER BY t.id", Integer.class)
+                    .setParameter("statuses", STATUSES)
+                    .setParameter("priorities", PRIORITIES)
+                    .setParameter("assignees", ASSIGNEES)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public long bitmapCount() {
+        return taskFilterIndex.find(filter).getLongCardinality();
+    }
+
+    @Benchmark
+    public long jpqlCount() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT COUNT(t) FROM Task t WHERE t.status IN :statuses "
+                            + "AND t.priority IN :priorities AND t.assignee.id IN :assignees", Long.class)
+                    .setParameter("statuses", STATUSES)
+                    .setParameter("priorities", PRIORITIES)
+                    .setParameter("assignees", ASSIGNEES)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.repositories.TaskJdbcRepository;
+import com.hackathon_AI.repositories.TaskRepository;
+import com.hackathon_AI.utils.Converter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two GET /api/tasks read paths over tasks with two tags each: JPA entities with their
+ * users and tags mapped to TaskDTOs, against TaskJdbcRepository's single statement mapped
+ * straight into them. Both run in the read-only transaction TaskService.listAllTasks opens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskListingBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskJdbcRepository taskJdbcRepository;
+    private Converter converter;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they win over application.properties
+                // H2 would otherwise hand back the cached result of a repeated identical query
+                .run("--spring.datasource.url=jdbc:h2:mem:task-listing-" + tasks + ";OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // data.sql seeds users 1..10, tasks 1..10 and tags 1..16
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, end_date, creator_id, assignee_id, priority, status, created_at)
+                SELECT X + 1000, 'Task ' || X, 'Generated by the benchmark', DATEADD('DAY', MOD(X, 60), CURRENT_DATE),
+                       1 + MOD(X, 10), 1 + MOD(X / 7, 10), MOD(X, 3), 'PENDING', CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """, tasks);
+        jdbcTemplate.update("""
+                INSERT INTO task_tags (task_id, tag_id)
+                SELECT X + 1000, 1 + MOD(X, 16) FROM SYSTEM_RANGE(1, ?)
+                UNION ALL
+                SELECT X + 1000, 1 + MOD(X + 5, 16) FROM SYSTEM_RANGE(1, ?)
+                """, tasks, tasks);
+
+        taskRepository = context.getBean(TaskRepository.class);
+        taskJdbcRepository = context.getBean(TaskJdbcRepository.class);
+        converter = context.getBean(Converter.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        if (jpa().size() != jdbc().size()) {
+            throw new IllegalStateException("JPA and JDBC listings disagree");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> jpa() {
+        return readOnly.execute(status -> converter.toTaskResponseDTOList(taskRepository.findAllWithUsersAndTags()));
+    }
+
+    @Benchmark
+    public List<TaskDTO> jdbc() {
+        return readOnly.execute(status -> taskJdbcRepository.findAll());
+    }
+}
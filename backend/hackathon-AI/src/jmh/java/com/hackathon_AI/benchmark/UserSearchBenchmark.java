@@ -0,0 +1,92 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import com.hackathon_AI.index.UserNameIndex;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.services.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assignee picker lookups over 500k users: the trigram UserNameIndex returning the 20 closest
+ * names, against the %x% scan behind UserRepository.findByFirstNameContaining.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserSearchBenchmark {
+    private static final int LIMIT = 20;
+
+    @Param({"500000"})
+    public int users;
+
+    @Param({"mariana", "fernanda olivera"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private UserNameIndex userNameIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .web(WebApplicationType.NONE)
+                // command-line arguments, so they win over application.properties
+                // H2 would otherwise hand back the cached result of a repeated identical query
+                .run("--spring.datasource.url=jdbc:h2:mem:user-search-" + users + ";OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        context.getBean(JdbcTemplate.class).update("""
+                INSERT INTO users (first_name, last_name, birth_date)
+                SELECT ARRAY['Ana', 'Bruno', 'Carla', 'Daniel', 'Eduarda', 'Fernanda', 'Gabriel', 'Helena',
+                             'Igor', 'Joana', 'Lucas', 'Mariana', 'Nicolas', 'Olivia', 'Pedro', 'Rafaela'][1 + MOD(X, 16)]
+                           || CASE WHEN MOD(X, 7) = 0 THEN '' ELSE CAST(MOD(X, 97) AS VARCHAR) END,
+                       ARRAY['Silva', 'Souza', 'Oliveira', 'Santos', 'Pereira', 'Costa', 'Rodrigues', 'Almeida',
+                             'Nascimento', 'Lima', 'Araújo', 'Fernandes', 'Carvalho', 'Gomes', 'Martins', 'Rocha'][1 + MOD(X / 16, 16)],
+                       DATEADD('DAY', -MOD(X, 15000), DATE '2005-01-01')
+                FROM SYSTEM_RANGE(1, ?)
+                """, users);
+        // filled the same way the application fills it on startup
+        context.getBean(UserService.class).rebuildNameIndex();
+
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        userNameIndex = context.getBean(UserNameIndex.class);
+        if (trigramIndex().size() != LIMIT) {
+            throw new IllegalStateException("Trigram index found fewer than " + LIMIT + " users");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Integer> trigramIndex() {
+        return userNameIndex.search(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<User> containingScan() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            // the derived findByFirstNameContaining query: no ranking, no typos, every match loaded
+            return entityManager.createQuery("SELECT u FROM User u WHERE u.firstName LIKE :pattern", User.class)
+                    .setParameter("pattern", "%" + query.split(" ")[0] + "%")
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.dto.request.CreateTaskDTO;
+import com.hackathon_AI.dto.request.CreateUserDTO;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.validation.MinimumAgeValidator;
+import com.hackathon_AI.validation.PriorityValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request validation paths: the custom constraint validators on their own, the
+ * age UserDTO derives on every serialization, and full Bean Validation of the create DTOs.
+ * Run with {@code -prof gc} to see the bytes each call allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+    private final PriorityValidator priorityValidator = new PriorityValidator();
+    private final MinimumAgeValidator minimumAgeValidator = new MinimumAgeValidator();
+
+    // read from fields so the JIT cannot fold the inputs into constants
+    private String validPriority = "medium";
+    private String invalidPriority = "URGENT";
+    private LocalDate birthDate = LocalDate.of(1990, 5, 15);
+    private UserDTO user;
+    private CreateUserDTO createUser;
+    private CreateTaskDTO createTask;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = UserDTO.builder().id(1).firstName("John").lastName("Doe").birthDate(birthDate).build();
+        createUser = new CreateUserDTO("John", "Doe", birthDate);
+        createTask = new CreateTaskDTO("Passear com o cachorro", "Levar o dog para dar uma volta",
+                LocalDate.now().plusDays(3), 1, 2, List.of("casa", "pets"), "low", TaskStatus.PENDING);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean priorityValid() {
+        return priorityValidator.isValid(validPriority, null);
+    }
+
+    @Benchmark
+    public boolean priorityInvalid() {
+        return priorityValidator.isValid(invalidPriority, null);
+    }
+
+    @Benchmark
+    public boolean minimumAge() {
+        return minimumAgeValidator.isValid(birthDate, null);
+    }
+
+    @Benchmark
+    public Integer userAge() {
+        return user.getAge();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateUserDTO>> validateCreateUser() {
+        return validator.validate(createUser);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskDTO>> validateCreateTask() {
+        return validator.validate(createTask);
+    }
+}
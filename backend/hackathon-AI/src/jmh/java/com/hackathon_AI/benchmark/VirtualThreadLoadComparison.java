@@ -0,0 +1,169 @@
+package com.hackathon_AI.benchmark;
+
+import com.hackathon_AI.HackathonAiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Closed-loop HTTP load against the whole server, which JMH cannot drive: the default
+ * configuration (200 Tomcat platform threads) against the prod profile (virtual threads with
+ * the database limiter). Each client sends {@code GET /api/tasks/user/{id}?limit=20}, which
+ * always reaches the database, and sends the next request as soon as the answer arrives.
+ * <p>
+ * Not a JMH benchmark; run it through the benchmark profile with
+ * {@code -Dbenchmark.main=com.hackathon_AI.benchmark.VirtualThreadLoadComparison}.
+ * Numeric arguments override the client count and the measured seconds; others are ignored,
+ * so the default {@code jmh.args} does no harm.
+ */
+public class VirtualThreadLoadComparison {
+    private static final int SEEDED_USERS = 10;
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+
+    public static void main(String[] args) throws Exception {
+        // devtools would restart this main method with the Spring arguments instead of ours
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        int[] numbers = Arrays.stream(args)
+                .flatMap(arg -> Arrays.stream(arg.trim().split("\\s+")))
+                .filter(arg -> arg.matches("\\d+")).mapToInt(Integer::parseInt).toArray();
+        int clients = numbers.length > 0 ? numbers[0] : 2000;
+        Duration measurement = Duration.ofSeconds(numbers.length > 1 ? numbers[1] : 20);
+
+        List<Result> results = List.of(
+                run("platform threads", clients, measurement,
+                        "--spring.threads.virtual.enabled=false", "--app.db.limiter.enabled=false"),
+                run("virtual threads + limiter", clients, measurement,
+                        "--spring.profiles.active=prod"));
+
+        System.out.printf("%n%d concurrent clients, %ds measured after %ds warmup%n",
+                clients, measurement.toSeconds(), WARMUP.toSeconds());
+        System.out.printf("%-28s %12s %10s %10s %10s %8s%n", "configuration", "requests/s", "p50 ms", "p99 ms", "max ms", "errors");
+        results.forEach(result -> System.out.printf("%-28s %12.0f %10.1f %10.1f %10.1f %8d%n",
+                result.name(), result.throughput(), result.percentile(50), result.percentile(99),
+                result.percentile(100), result.errors()));
+    }
+
+    private static Result run(String name, int clients, Duration measurement, String... profileArgs) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                // a fresh database per configuration, so neither run sees the other's data
+                "--spring.datasource.url=jdbc:h2:mem:load-" + name.hashCode() + ";OPTIMIZE_REUSE_RESULTS=FALSE",
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(profileArgs));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HackathonAiApplication.class)
+                .run(args.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.printf("%s: warming up on port %d%n", name, port);
+            load(port, clients, WARMUP);
+            System.out.printf("%s: measuring%n", name);
+            return new Result(name, measurement, load(port, clients, measurement));
+        }
+    }
+
+    // one virtual thread per client, so the driver itself never runs out of threads
+    private static Samples load(int port, int clients, Duration duration) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Samples>> futures = new ArrayList<>(clients);
+        try (HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                URI uri = URI.create("http://localhost:" + port + "/api/tasks/user/" + (1 + client % SEEDED_USERS) + "?limit=20");
+                futures.add(executor.submit(() -> client(http, uri, running)));
+            }
+            Thread.sleep(duration);
+            running.set(false);
+
+            Samples total = new Samples();
+            for (Future<Samples> future : futures) {
+                total.addAll(future.get());
+            }
+            return total;
+        }
+    }
+
+    private static Samples client(HttpClient http, URI uri, AtomicBoolean running) {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        Samples samples = new Samples();
+        while (running.get()) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                if (!running.get()) {
+                    break;
+                }
+                if (response.statusCode() == 200) {
+                    samples.add(System.nanoTime() - start);
+                } else {
+                    samples.errors++;
+                }
+            } catch (Exception e) {
+                if (running.get()) {
+                    samples.errors++;
+                }
+            }
+        }
+        return samples;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long nanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i]);
+            }
+            errors += other.errors;
+        }
+    }
+
+    private record Result(String name, Duration measurement, Samples samples) {
+        Result {
+            Arrays.sort(samples.latencies, 0, samples.size);
+        }
+
+        double throughput() {
+            return samples.size / (double) measurement.toSeconds();
+        }
+
+        double percentile(int percentile) {
+            if (samples.size == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * samples.size) - 1;
+            return samples.latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+
+        long errors() {
+            return samples.errors;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.hackathon_AI.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts a {@link LimitedDataSource} in front of the pool, so JPA and JDBC access alike queue
+ * for the same permits. Enabled by the prod profile together with virtual threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.limiter.enabled", havingValue = "true")
+@EnableConfigurationProperties(DatabaseLimiterProperties.class)
+public class DatabaseLimiterConfig {
+
+    // static and lazy, so the post-processor is registered before the properties bean exists
+    @Bean
+    public static BeanPostProcessor limitedDataSourcePostProcessor(ObjectProvider<DatabaseLimiterProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof LimitedDataSource) {
+                    return bean;
+                }
+                DatabaseLimiterProperties limiter = properties.getObject();
+                return new LimitedDataSource(dataSource, permits(dataSource, limiter), limiter.timeout());
+            }
+        };
+    }
+
+    // one permit per pooled connection: more would just wait inside the pool
+    private static int permits(DataSource dataSource, DatabaseLimiterProperties limiter) {
+        if (limiter.permits() != null) {
+            return limiter.permits();
+        }
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        throw new IllegalStateException("app.db.limiter.permits is required for " + dataSource.getClass().getName());
+    }
+}
@@ -0,0 +1,17 @@
+package com.hackathon_AI.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * How many connections may be in use at once and how long a caller waits for one before the
+ * request is answered with 503. Without {@code permits}, the Hikari pool size is used.
+ */
+@ConfigurationProperties("app.db.limiter")
+public record DatabaseLimiterProperties(boolean enabled, Integer permits, Duration timeout) {
+
+    public DatabaseLimiterProperties {
+        timeout = timeout == null ? Duration.ofSeconds(5) : timeout;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hackathon_AI.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Size and time-to-live of each Hibernate second-level cache region, keyed by region name.
+ */
+@ConfigurationProperties("app.cache.second-level")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+
+    public SecondLevelCacheProperties {
+        regions = regions == null ? Map.of() : Map.copyOf(regions);
+    }
+
+    public record Region(long maximumSize, Duration ttl) {
+    }
+}
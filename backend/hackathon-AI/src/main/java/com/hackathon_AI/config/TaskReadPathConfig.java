@@ -0,0 +1,9 @@
+package com.hackathon_AI.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TaskReadPathProperties.class)
+public class TaskReadPathConfig {
+}
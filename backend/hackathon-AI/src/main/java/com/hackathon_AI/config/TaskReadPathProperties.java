@@ -0,0 +1,21 @@
+package com.hackathon_AI.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Which query path serves each task listing: JPA entities mapped to TaskDTOs, or a single
+ * JDBC statement mapped straight into them by TaskJdbcRepository. JPA unless configured.
+ */
+@ConfigurationProperties("app.tasks.read-path")
+public record TaskReadPathProperties(ReadPath all, ReadPath byUser) {
+
+    public TaskReadPathProperties {
+        all = all == null ? ReadPath.JPA : all;
+        byUser = byUser == null ? ReadPath.JPA : byUser;
+    }
+
+    public enum ReadPath {
+        JPA,
+        JDBC
+    }
+}
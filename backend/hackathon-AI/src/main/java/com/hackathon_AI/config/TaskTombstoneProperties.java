@@ -0,0 +1,17 @@
+package com.hackathon_AI.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * How long delete tombstones are kept for the change feed. Sync tokens older than the
+ * retention get a full resync, since the tombstones they would need may already be pruned.
+ */
+@ConfigurationProperties("app.tasks.tombstones")
+public record TaskTombstoneProperties(Duration retention) {
+
+    public TaskTombstoneProperties {
+        retention = retention == null ? Duration.ofDays(7) : retention;
+    }
+}
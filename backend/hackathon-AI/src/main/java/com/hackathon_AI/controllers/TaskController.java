@@ -1,16 +1,41 @@
 package com.hackathon_AI.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackathon_AI.dto.request.BulkReassignDTO;
+import com.hackathon_AI.dto.request.BulkUpdateStatusDTO;
 import com.hackathon_AI.dto.request.CreateTaskDTO;
 import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.BulkUpdateResultDTO;
+import com.hackathon_AI.dto.response.TaskChangesDTO;
 import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.TaskPageDTO;
+import com.hackathon_AI.dto.response.TaskStatsDTO;
+import com.hackathon_AI.dto.response.TaskStatusDTO;
 import com.hackathon_AI.dto.request.UpdateTaskDTO;
+import com.hackathon_AI.index.TaskFilter;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.services.DataVersion;
 import com.hackathon_AI.services.TaskService;
+import com.hackathon_AI.services.TaskStatsService;
+import com.hackathon_AI.stream.TaskChangeBroadcaster;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -18,6 +43,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final ObjectMapper objectMapper;
+    private final DataVersion dataVersion;
+    private final TaskChangeBroadcaster taskChangeBroadcaster;
 
     @PostMapping
     public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody CreateTaskDTO task) {
@@ -25,10 +54,79 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskDTO>> createTasks(
+            @RequestBody @Size(max = TaskService.MAX_BATCH_SIZE, message = "Batch must have at most {max} tasks")
+            List<@NotNull(message = "Task must not be null") @Valid CreateTaskDTO> tasks) {
+        List<TaskDTO> createdTasks = taskService.createTasks(tasks);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdTasks);
+    }
+
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
+    public ResponseEntity<List<TaskDTO>> getAllTasks(WebRequest request) {
+        // answers 304 and sets the ETag header when If-None-Match still matches
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
         List<TaskDTO> tasks = taskService.listAllTasks();
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tasks);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                taskService.streamAllTasks(task -> writeTask(generator, task));
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<TaskPageDTO> getTasksPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        TaskPageDTO page = taskService.listTasksPage(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges() {
+        return taskChangeBroadcaster.subscribe();
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<TaskPageDTO> filterTasks(@RequestParam(required = false) List<TaskStatus> status,
+                                                   @RequestParam(required = false) List<String> priority,
+                                                   @RequestParam(required = false) List<Integer> assigneeId,
+                                                   @RequestParam(defaultValue = "50") int limit,
+                                                   @RequestParam(required = false) String cursor) {
+        TaskPageDTO page = taskService.filterTasks(TaskFilter.of(status, priority, assigneeId), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getTaskStats() {
+        TaskStatsDTO stats = taskStatsService.getStats();
+        return ResponseEntity.ok(stats);
+    }
+
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<TaskStatsDTO> reconcileTaskStats() {
+        TaskStatsDTO stats = taskStatsService.reconcile();
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(@RequestParam(required = false) String since) {
+        TaskChangesDTO changes = taskService.listTaskChanges(since);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/by-priority")
+    public ResponseEntity<TaskPageDTO> getTasksByPriority(@RequestParam(defaultValue = "50") int limit,
+                                                          @RequestParam(required = false) String cursor) {
+        TaskPageDTO page = taskService.listTasksByPriorityPage(cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     @GetMapping("/user/{userId}")
@@ -37,22 +135,50 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/user/{userId}", params = "limit")
+    public ResponseEntity<TaskPageDTO> getTasksByUserPage(@PathVariable Integer userId, @RequestParam int limit,
+                                                          @RequestParam(required = false) String cursor) {
+        TaskPageDTO page = taskService.listTasksByUserPage(userId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<TaskDTO>> searchTasksByTag(@RequestParam String tag) {
         List<TaskDTO> tasks = taskService.searchTasksByTag(tag);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/search/text")
+    public ResponseEntity<List<TaskDTO>> searchTasksByText(@RequestParam String q,
+                                                           @RequestParam(defaultValue = "20") int limit) {
+        List<TaskDTO> tasks = taskService.searchTasksByText(q, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @PutMapping("/status")
+    public ResponseEntity<BulkUpdateResultDTO> updateTasksStatus(@Valid @RequestBody BulkUpdateStatusDTO update) {
+        BulkUpdateResultDTO result = taskService.updateTasksStatus(update);
+        return ResponseEntity.ok(result);
+    }
+
+    @PutMapping("/reassign")
+    public ResponseEntity<BulkUpdateResultDTO> reassignTasks(@Valid @RequestBody BulkReassignDTO reassign) {
+        BulkUpdateResultDTO result = taskService.reassignTasks(reassign);
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDTO> updateTask(@PathVariable Integer id, @Valid @RequestBody UpdateTaskDTO task) {
-        TaskDTO updatedTask = taskService.updateTask(id, task);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<TaskDTO> updateTask(@PathVariable Integer id, @Valid @RequestBody UpdateTaskDTO task,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskDTO updatedTask = taskService.updateTask(id, task, expectedVersion(ifMatch));
+        return withVersion(updatedTask.getVersion()).body(updatedTask);
     }
 
     @PutMapping("/{id}/status")
-    public ResponseEntity<TaskDTO> updateTaskStatus(@PathVariable Integer id, @RequestBody UpdateTaskStatusDTO newStatus) {
-        TaskDTO updatedTask = taskService.updateTaskStatus(id, newStatus);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<TaskStatusDTO> updateTaskStatus(@PathVariable Integer id, @Valid @RequestBody UpdateTaskStatusDTO newStatus,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskStatusDTO updatedTask = taskService.updateTaskStatus(id, newStatus, expectedVersion(ifMatch));
+        return withVersion(updatedTask.getVersion()).body(updatedTask);
     }
 
     @DeleteMapping("/{id}")
@@ -60,4 +186,33 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // If-Match carries the task version as a strong ETag, e.g. "3"; without it, or with *, the update is unconditional
+    private static Integer expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("If-Match must be the quoted task version");
+        }
+        try {
+            return Integer.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be the quoted task version");
+        }
+    }
+
+    private static ResponseEntity.BodyBuilder withVersion(Integer version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        return version == null ? response : response.eTag(String.valueOf(version));
+    }
+
+    private void writeTask(JsonGenerator generator, TaskDTO task) {
+        try {
+            generator.writeObject(task);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
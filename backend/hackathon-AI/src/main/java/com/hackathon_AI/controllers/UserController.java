@@ -2,12 +2,15 @@ package com.hackathon_AI.controllers;
 
 import com.hackathon_AI.dto.request.CreateUserDTO;
 import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.services.DataVersion;
 import com.hackathon_AI.services.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,6 +19,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final DataVersion dataVersion;
 
     @PostMapping
     public ResponseEntity<UserDTO> createUser(@Valid @RequestBody CreateUserDTO user) {
@@ -24,8 +28,19 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
+    public ResponseEntity<List<UserDTO>> getAllUsers(WebRequest request) {
+        // answers 304 and sets the ETag header when If-None-Match still matches
+        if (request.checkNotModified(dataVersion.etag())) {
+            return null;
+        }
         List<UserDTO> users = userService.listAllUsers();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(users);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<UserDTO>> searchUsers(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        List<UserDTO> users = userService.searchUsers(q, limit);
         return ResponseEntity.ok(users);
     }
 }
@@ -0,0 +1,25 @@
+package com.hackathon_AI.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReassignDTO {
+    @Schema(description = "IDs of the tasks to reassign; use either this or fromUserId", example = "[1, 2, 3]", type = "array")
+    @Size(max = 10000, message = "Maximum of 10000 tasks per request")
+    private List<@NotNull(message = "Task ID must not be null") Integer> ids;
+
+    @Schema(description = "ID of the user whose tasks are reassigned; use either this or ids", example = "3", type = "integer")
+    private Integer fromUserId;
+
+    @Schema(description = "ID of the user receiving the tasks", example = "1", type = "integer")
+    @NotNull(message = "Target user ID is required")
+    private Integer toUserId;
+}
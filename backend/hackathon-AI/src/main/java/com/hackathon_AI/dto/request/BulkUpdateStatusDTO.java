@@ -0,0 +1,26 @@
+package com.hackathon_AI.dto.request;
+
+import com.hackathon_AI.model.TaskStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateStatusDTO {
+    @Schema(description = "IDs of the tasks to update", example = "[1, 2, 3]", type = "array")
+    @NotEmpty(message = "Task IDs are required")
+    @Size(max = 10000, message = "Maximum of 10000 tasks per request")
+    private List<@NotNull(message = "Task ID must not be null") Integer> ids;
+
+    @Schema(description = "New status of the tasks", example = "COMPLETED", type = "string")
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
@@ -1,6 +1,7 @@
 package com.hackathon_AI.dto.request;
 
 import com.hackathon_AI.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,5 +12,6 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UpdateTaskStatusDTO {
+    @NotNull(message = "Status is required")
     private TaskStatus status;
 }
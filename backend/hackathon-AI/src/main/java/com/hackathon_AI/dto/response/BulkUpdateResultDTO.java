@@ -0,0 +1,12 @@
+package com.hackathon_AI.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkUpdateResultDTO {
+    private int updated;
+}
@@ -0,0 +1,18 @@
+package com.hackathon_AI.dto.response;
+
+import java.util.List;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskChangesDTO {
+    private List<TaskDTO> changed;
+    private List<Integer> deleted;
+    private String nextToken;
+    // every task is in changed: replace the local list instead of merging into it
+    private boolean resync;
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.hackathon_AI.model.Priority;
 import com.hackathon_AI.model.TaskStatus;
 
 import lombok.*;
@@ -21,8 +22,9 @@ public class TaskDTO {
     private UserDTO creator;
     private UserDTO assignee;
     private List<String> tags;
-    private String priority;
+    private Priority priority;
     private TaskStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer version;
 }
@@ -0,0 +1,15 @@
+package com.hackathon_AI.dto.response;
+
+import java.util.List;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskPageDTO {
+    private List<TaskDTO> items;
+    private String nextCursor;
+}
@@ -0,0 +1,24 @@
+package com.hackathon_AI.dto.response;
+
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+
+import java.util.Map;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class TaskStatsDTO {
+    private long total;
+    private Map<TaskStatus, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+    private Map<Integer, Long> byAssignee;
+    private long unassigned;
+    // past their end date and not completed
+    private long overdue;
+}
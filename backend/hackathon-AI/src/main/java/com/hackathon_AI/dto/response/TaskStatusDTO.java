@@ -0,0 +1,20 @@
+package com.hackathon_AI.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.hackathon_AI.model.TaskStatus;
+
+import lombok.*;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskStatusDTO {
+    private Integer id;
+    private TaskStatus status;
+    private LocalDateTime updatedAt;
+    // null when the update was unconditional, which does not read the row back
+    private Integer version;
+}
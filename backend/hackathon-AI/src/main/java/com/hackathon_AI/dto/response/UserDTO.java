@@ -6,10 +6,10 @@ import java.time.Period;
 import lombok.*;
 
 @Getter
-@Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+// no setters: instances are shared through UserCache
 public class UserDTO {
     private Integer id;
     private String firstName;
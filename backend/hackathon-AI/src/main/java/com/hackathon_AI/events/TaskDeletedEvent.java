@@ -0,0 +1,4 @@
+package com.hackathon_AI.events;
+
+public record TaskDeletedEvent(Integer taskId) {
+}
@@ -0,0 +1,27 @@
+package com.hackathon_AI.events;
+
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TaskSnapshot(Integer id, String title, String description, List<String> tags, TaskStatus status,
+                           Priority priority, Integer assigneeId, LocalDate endDate, LocalDateTime updatedAt) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getTags() == null ? List.of() : List.copyOf(task.getTags()),
+                task.getStatus(),
+                task.getPriority(),
+                // reading the id does not initialize an assignee proxy
+                task.getAssignee() == null ? null : task.getAssignee().getId(),
+                task.getEndDate(),
+                task.getUpdatedAt());
+    }
+}
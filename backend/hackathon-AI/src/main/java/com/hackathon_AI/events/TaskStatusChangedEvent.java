@@ -0,0 +1,9 @@
+package com.hackathon_AI.events;
+
+import com.hackathon_AI.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TaskStatusChangedEvent(List<Integer> taskIds, TaskStatus status, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,7 @@
+package com.hackathon_AI.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record TasksReassignedEvent(List<Integer> taskIds, Integer assigneeId, LocalDateTime updatedAt) {
+}
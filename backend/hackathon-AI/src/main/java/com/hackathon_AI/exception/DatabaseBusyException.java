@@ -0,0 +1,13 @@
+package com.hackathon_AI.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * No database permit freed up in time. A SQLException, so it reaches the handler the same way
+ * as a pool timeout: wrapped by the transaction manager or JdbcTemplate.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hackathon_AI.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory substring index over task tags.
+ * <p>
+ * Trigrams are built over the distinct tag values rather than over every task_tags row,
+ * so a query narrows down to a handful of candidate tags before touching task ids.
+ */
+@Component
+public class TagIndex {
+    private final Map<String, Set<Integer>> taskIdsByTag = new HashMap<>();
+    private final Map<String, Set<String>> tagsByTrigram = new HashMap<>();
+    private final Map<Integer, Set<String>> tagsByTaskId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Integer taskId, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            removeTask(taskId);
+            for (String tag : tags) {
+                addTag(taskId, Trigrams.normalize(tag));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer taskId) {
+        lock.writeLock().lock();
+        try {
+            removeTask(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            taskIdsByTag.clear();
+            tagsByTrigram.clear();
+            tagsByTaskId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Integer> findTaskIds(String tagPattern) {
+        String pattern = Trigrams.normalize(tagPattern);
+        lock.readLock().lock();
+        try {
+            Set<Integer> taskIds = new HashSet<>();
+            for (String tag : candidateTags(pattern)) {
+                if (tag.contains(pattern)) {
+                    taskIds.addAll(taskIdsByTag.get(tag));
+                }
+            }
+            return taskIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tagsByTaskId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<String> candidateTags(String pattern) {
+        if (pattern.length() < Trigrams.LENGTH) {
+            return taskIdsByTag.keySet();
+        }
+
+        List<Set<String>> postings = Trigrams.of(pattern).stream()
+                .map(trigram -> tagsByTrigram.getOrDefault(trigram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        Set<String> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    private void addTag(Integer taskId, String tag) {
+        tagsByTaskId.computeIfAbsent(taskId, id -> new HashSet<>()).add(tag);
+        Set<Integer> taskIds = taskIdsByTag.computeIfAbsent(tag, t -> new HashSet<>());
+        if (taskIds.isEmpty()) {
+            for (String trigram : Trigrams.of(tag)) {
+                tagsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(tag);
+            }
+        }
+        taskIds.add(taskId);
+    }
+
+    private void removeTask(Integer taskId) {
+        Set<String> tags = tagsByTaskId.remove(taskId);
+        if (tags == null) {
+            return;
+        }
+        for (String tag : tags) {
+            Set<Integer> taskIds = taskIdsByTag.get(tag);
+            taskIds.remove(taskId);
+            if (taskIds.isEmpty()) {
+                taskIdsByTag.remove(tag);
+                for (String trigram : Trigrams.of(tag)) {
+                    Set<String> trigramTags = tagsByTrigram.get(trigram);
+                    trigramTags.remove(tag);
+                    if (trigramTags.isEmpty()) {
+                        tagsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+}
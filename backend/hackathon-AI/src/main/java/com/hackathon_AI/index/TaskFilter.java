@@ -0,0 +1,34 @@
+package com.hackathon_AI.index;
+
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Values within a field are ORed, fields are ANDed; an empty field does not filter.
+ * {@code status=PENDING,REVIEW & priority=HIGH} is "(PENDING or REVIEW) and HIGH".
+ */
+public record TaskFilter(Set<TaskStatus> statuses, Set<Priority> priorities, Set<Integer> assigneeIds) {
+
+    public static TaskFilter of(Collection<TaskStatus> statuses, Collection<String> priorities,
+                                Collection<Integer> assigneeIds) {
+        return new TaskFilter(
+                statuses == null ? Set.of() : Set.copyOf(statuses),
+                priorities == null ? Set.of() : priorities.stream()
+                        .map(TaskFilter::priority)
+                        .collect(Collectors.toUnmodifiableSet()),
+                assigneeIds == null ? Set.of() : Set.copyOf(assigneeIds));
+    }
+
+    // case-insensitive, like the request DTOs; an unknown value is a bad request, as for status
+    private static Priority priority(String value) {
+        Priority priority = Priority.parse(value);
+        if (priority == null) {
+            throw new IllegalArgumentException("Unknown priority: " + value);
+        }
+        return priority;
+    }
+}
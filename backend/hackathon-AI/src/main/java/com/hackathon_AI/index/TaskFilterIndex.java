@@ -0,0 +1,191 @@
+package com.hackathon_AI.index;
+
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Compressed bitmaps of task ids per status, priority and assignee.
+ * <p>
+ * A filter is answered by ORing the bitmaps of each field's values and ANDing the fields,
+ * so the cost follows the number of matching ids rather than the size of the table.
+ */
+@Component
+public class TaskFilterIndex {
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Map<Priority, RoaringBitmap> byPriority = new EnumMap<>(Priority.class);
+    private final Map<Integer, RoaringBitmap> byAssignee = new HashMap<>();
+    // what each task is currently indexed under, so a change can clear the old bits
+    private final Map<Integer, Facts> factsByTaskId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(TaskSnapshot task) {
+        lock.writeLock().lock();
+        try {
+            replace(task.id(), new Facts(task.status(), task.priority(), task.assigneeId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateStatus(Collection<Integer> taskIds, TaskStatus status) {
+        update(taskIds, facts -> new Facts(status, facts.priority(), facts.assigneeId()));
+    }
+
+    public void reassign(Collection<Integer> taskIds, Integer assigneeId) {
+        update(taskIds, facts -> new Facts(facts.status(), facts.priority(), assigneeId));
+    }
+
+    public void remove(Integer taskId) {
+        lock.writeLock().lock();
+        try {
+            replace(taskId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            byStatus.clear();
+            byPriority.clear();
+            byAssignee.clear();
+            factsByTaskId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Ids matching the filter, ascending. The bitmap is a private copy the caller may keep. */
+    public RoaringBitmap find(TaskFilter filter) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> fields = new ArrayList<>(3);
+            addField(fields, byStatus, filter.statuses());
+            addField(fields, byPriority, filter.priorities());
+            addField(fields, byAssignee, filter.assigneeIds());
+            if (fields.isEmpty()) {
+                return all.clone();
+            }
+            if (fields.size() == 1) {
+                return fields.get(0).clone();
+            }
+            // smallest first, so the intersection shrinks as early as possible
+            fields.sort((a, b) -> Long.compare(a.getLongCardinality(), b.getLongCardinality()));
+            return FastAggregation.and(fields.iterator());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} matching ids greater than {@code afterId}, ascending. */
+    public List<Integer> findPage(TaskFilter filter, Integer afterId, int limit) {
+        RoaringBitmap matches = find(filter);
+        PeekableIntIterator ids = matches.getIntIterator();
+        if (afterId != null) {
+            ids.advanceIfNeeded(afterId + 1);
+        }
+        List<Integer> page = new ArrayList<>(limit);
+        while (ids.hasNext() && page.size() < limit) {
+            page.add(ids.next());
+        }
+        return page;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Collection<Integer> taskIds, Function<Facts, Facts> change) {
+        lock.writeLock().lock();
+        try {
+            for (Integer taskId : taskIds) {
+                Facts facts = factsByTaskId.get(taskId);
+                // a task we never saw created has no bits to move
+                if (facts != null) {
+                    replace(taskId, change.apply(facts));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replace(Integer taskId, Facts facts) {
+        Facts previous = facts == null ? factsByTaskId.remove(taskId) : factsByTaskId.put(taskId, facts);
+        if (Objects.equals(previous, facts)) {
+            return;
+        }
+        if (previous != null) {
+            unset(byStatus, previous.status(), taskId);
+            unset(byPriority, previous.priority(), taskId);
+            unset(byAssignee, previous.assigneeId(), taskId);
+            all.remove(taskId);
+        }
+        if (facts != null) {
+            set(byStatus, facts.status(), taskId);
+            set(byPriority, facts.priority(), taskId);
+            set(byAssignee, facts.assigneeId(), taskId);
+            all.add(taskId);
+        }
+    }
+
+    private static <K> void set(Map<K, RoaringBitmap> bitmaps, K key, int taskId) {
+        if (key != null) {
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(taskId);
+        }
+    }
+
+    private static <K> void unset(Map<K, RoaringBitmap> bitmaps, K key, int taskId) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(taskId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static <K> void addField(List<RoaringBitmap> fields, Map<K, RoaringBitmap> bitmaps, Set<K> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<RoaringBitmap> selected = new ArrayList<>(values.size());
+        for (K value : values) {
+            selected.add(bitmaps.getOrDefault(value, EMPTY));
+        }
+        fields.add(selected.size() == 1 ? selected.get(0) : FastAggregation.or(selected.iterator()));
+    }
+
+    private record Facts(TaskStatus status, Priority priority, Integer assigneeId) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.hackathon_AI.index;
+
+import com.hackathon_AI.events.TaskDeletedEvent;
+import com.hackathon_AI.events.TaskSavedEvent;
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.events.TaskStatusChangedEvent;
+import com.hackathon_AI.events.TasksReassignedEvent;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.repositories.TaskRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.stream.Stream;
+
+/**
+ * Keeps the in-process task indexes in step with the database: a full rebuild on startup,
+ * then incremental updates from the events TaskService publishes once a write is committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskIndexSynchronizer {
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TagIndex tagIndex;
+    private final TaskStatsIndex taskStatsIndex;
+    private final TaskFilterIndex taskFilterIndex;
+    private final TaskTextIndex taskTextIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        tagIndex.clear();
+        taskStatsIndex.clear();
+        taskFilterIndex.clear();
+        taskTextIndex.clear();
+        try (Stream<Task> tasks = taskRepository.streamAllWithUsersAndTags()) {
+            tasks.forEach(task -> {
+                apply(TaskSnapshot.of(task));
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskSaved(TaskSavedEvent event) {
+        apply(event.task());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        tagIndex.remove(event.taskId());
+        taskStatsIndex.remove(event.taskId());
+        taskFilterIndex.remove(event.taskId());
+        taskTextIndex.remove(event.taskId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        taskStatsIndex.updateStatus(event.taskIds(), event.status());
+        taskFilterIndex.updateStatus(event.taskIds(), event.status());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        taskStatsIndex.reassign(event.taskIds(), event.assigneeId());
+        taskFilterIndex.reassign(event.taskIds(), event.assigneeId());
+    }
+
+    private void apply(TaskSnapshot task) {
+        tagIndex.index(task.id(), task.tags());
+        taskStatsIndex.index(task);
+        taskFilterIndex.index(task);
+        taskTextIndex.index(task.id(), task.title(), task.description());
+    }
+}
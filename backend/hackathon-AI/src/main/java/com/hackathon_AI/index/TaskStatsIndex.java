@@ -0,0 +1,224 @@
+package com.hackathon_AI.index;
+
+import com.hackathon_AI.dto.response.TaskStatsDTO;
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.repositories.TaskFacts;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Task counts by status, priority and assignee, kept current as tasks change.
+ * <p>
+ * Each task's last known facts are kept so a change can subtract what it replaces: the
+ * status and reassign events carry only the new value. Overdue depends on the date rather
+ * than on writes, so open tasks are counted per end date and summed up to today on read.
+ */
+@Component
+public class TaskStatsIndex {
+    // writers share the read lock; only swapping in rebuilt counters takes the write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Counters counters = new Counters();
+    // changes applied while a rebuild reads the database, replayed onto its result before the swap
+    private volatile Queue<Consumer<Counters>> journal;
+
+    public void index(TaskSnapshot task) {
+        Facts facts = new Facts(task.status(), task.priority(), task.assigneeId(), task.endDate());
+        apply(counters -> counters.index(task.id(), facts));
+    }
+
+    public void updateStatus(Collection<Integer> taskIds, TaskStatus status) {
+        apply(counters -> taskIds.forEach(taskId -> counters.update(taskId, facts -> facts.withStatus(status))));
+    }
+
+    public void reassign(Collection<Integer> taskIds, Integer assigneeId) {
+        apply(counters -> taskIds.forEach(taskId -> counters.update(taskId, facts -> facts.withAssigneeId(assigneeId))));
+    }
+
+    public void remove(Integer taskId) {
+        apply(counters -> counters.remove(taskId));
+    }
+
+    public void clear() {
+        swapLock.writeLock().lock();
+        try {
+            counters = new Counters();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds fresh counters from {@code tasks} while reads and writes keep using the current
+     * ones, then swaps them in. Changes that land meanwhile are replayed onto the fresh counters
+     * first; each sets absolute facts, so replaying one the query already saw is harmless.
+     */
+    public synchronized void rebuild(Supplier<Stream<TaskFacts>> tasks) {
+        Queue<Consumer<Counters>> changes = new ConcurrentLinkedQueue<>();
+        swapLock.writeLock().lock();
+        try {
+            journal = changes;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        Counters fresh = new Counters();
+        boolean built = false;
+        try (Stream<TaskFacts> rows = tasks.get()) {
+            rows.forEach(row -> fresh.index(row.id(),
+                    new Facts(row.status(), row.priority(), row.assigneeId(), row.endDate())));
+            built = true;
+        } finally {
+            swapLock.writeLock().lock();
+            try {
+                // a failed query keeps the current counters
+                if (built) {
+                    changes.forEach(change -> change.accept(fresh));
+                    counters = fresh;
+                }
+                journal = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    /** Reads are not a snapshot across counters; a concurrent write can show up in one count before another. */
+    public TaskStatsDTO stats(LocalDate today) {
+        return counters.stats(today);
+    }
+
+    private void apply(Consumer<Counters> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(counters);
+            Queue<Consumer<Counters>> changes = journal;
+            if (changes != null) {
+                changes.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static final class Counters {
+        private final ConcurrentMap<Integer, Facts> factsByTaskId = new ConcurrentHashMap<>();
+        private final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+        private final ConcurrentMap<Priority, LongAdder> byPriority = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Integer, LongAdder> byAssignee = new ConcurrentHashMap<>();
+        private final LongAdder unassigned = new LongAdder();
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> openByEndDate = new ConcurrentSkipListMap<>();
+
+        Counters() {
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+
+        void index(Integer taskId, Facts facts) {
+            // compute runs atomically per task, so two changes to one task cannot both subtract the same facts
+            factsByTaskId.compute(taskId, (id, previous) -> {
+                count(previous, -1);
+                count(facts, 1);
+                return facts;
+            });
+        }
+
+        void update(Integer taskId, UnaryOperator<Facts> change) {
+            // a task we never saw created has nothing to move between counters
+            factsByTaskId.computeIfPresent(taskId, (id, previous) -> {
+                Facts facts = change.apply(previous);
+                count(previous, -1);
+                count(facts, 1);
+                return facts;
+            });
+        }
+
+        void remove(Integer taskId) {
+            factsByTaskId.computeIfPresent(taskId, (id, previous) -> {
+                count(previous, -1);
+                return null;
+            });
+        }
+
+        TaskStatsDTO stats(LocalDate today) {
+            Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+            long total = 0;
+            for (Map.Entry<TaskStatus, LongAdder> entry : byStatus.entrySet()) {
+                long count = entry.getValue().sum();
+                statusCounts.put(entry.getKey(), count);
+                total += count;
+            }
+            long overdue = 0;
+            for (LongAdder count : openByEndDate.headMap(today).values()) {
+                overdue += count.sum();
+            }
+            return TaskStatsDTO.builder()
+                    .total(total)
+                    .byStatus(statusCounts)
+                    .byPriority(nonZero(byPriority))
+                    .byAssignee(nonZero(byAssignee))
+                    .unassigned(unassigned.sum())
+                    .overdue(overdue)
+                    .build();
+        }
+
+        private void count(Facts facts, int delta) {
+            if (facts == null) {
+                return;
+            }
+            if (facts.status() != null) {
+                byStatus.get(facts.status()).add(delta);
+            }
+            if (facts.priority() != null) {
+                byPriority.computeIfAbsent(facts.priority(), key -> new LongAdder()).add(delta);
+            }
+            if (facts.assigneeId() != null) {
+                byAssignee.computeIfAbsent(facts.assigneeId(), key -> new LongAdder()).add(delta);
+            } else {
+                unassigned.add(delta);
+            }
+            if (facts.endDate() != null && facts.status() != TaskStatus.COMPLETED) {
+                openByEndDate.computeIfAbsent(facts.endDate(), key -> new LongAdder()).add(delta);
+            }
+        }
+    }
+
+    private static <K extends Comparable<K>> Map<K, Long> nonZero(Map<K, LongAdder> counters) {
+        Map<K, Long> counts = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            long count = counter.sum();
+            if (count != 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    private record Facts(TaskStatus status, Priority priority, Integer assigneeId, LocalDate endDate) {
+        Facts withStatus(TaskStatus status) {
+            return new Facts(status, priority, assigneeId, endDate);
+        }
+
+        Facts withAssigneeId(Integer assigneeId) {
+            return new Facts(status, priority, assigneeId, endDate);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.hackathon_AI.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over task titles and descriptions, ranked with BM25.
+ * <p>
+ * A title word counts as {@value #TITLE_WEIGHT} occurrences, so a match in the title
+ * outranks the same match in a long description. Only the top {@code limit} tasks are
+ * kept while scoring, in a bounded min-heap.
+ */
+@Component
+public class TaskTextIndex {
+    static final int TITLE_WEIGHT = 2;
+    // the usual BM25 defaults: term frequency saturation and length normalization
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Integer, Integer>> frequenciesByTerm = new HashMap<>();
+    private final Map<Integer, Map<String, Integer>> termsByTaskId = new HashMap<>();
+    private final Map<Integer, Integer> lengthByTaskId = new HashMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Integer taskId, String title, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        Tokens.of(title).forEach(token -> terms.merge(token, TITLE_WEIGHT, Integer::sum));
+        Tokens.of(description).forEach(token -> terms.merge(token, 1, Integer::sum));
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeTask(taskId);
+            if (terms.isEmpty()) {
+                return;
+            }
+            terms.forEach((term, frequency) ->
+                    frequenciesByTerm.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, frequency));
+            termsByTaskId.put(taskId, terms);
+            lengthByTaskId.put(taskId, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer taskId) {
+        lock.writeLock().lock();
+        try {
+            removeTask(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            frequenciesByTerm.clear();
+            termsByTaskId.clear();
+            lengthByTaskId.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Ids of the best matches for any of the query words, best first. */
+    public List<Integer> search(String query, int limit) {
+        List<String> terms = List.copyOf(new LinkedHashSet<>(Tokens.of(query)));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Map<Integer, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int tasks = lengthByTaskId.size();
+            double averageLength = tasks == 0 ? 0 : (double) totalLength / tasks;
+            for (String term : terms) {
+                Map<Integer, Integer> frequencies = frequenciesByTerm.get(term);
+                if (frequencies == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (tasks - frequencies.size() + 0.5) / (frequencies.size() + 0.5));
+                frequencies.forEach((taskId, frequency) -> {
+                    double norm = K1 * (1 - B + B * lengthByTaskId.get(taskId) / averageLength);
+                    scores.merge(taskId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return top(scores, limit);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByTaskId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Integer> top(Map<Integer, Double> scores, int limit) {
+        // lowest score at the head, ties broken towards the older task
+        Comparator<Map.Entry<Integer, Double>> ranking = Map.Entry.<Integer, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(limit + 1, ranking);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (ranking.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getKey());
+        }
+        return ranked.reversed();
+    }
+
+    private void removeTask(Integer taskId) {
+        Map<String, Integer> terms = termsByTaskId.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Integer, Integer> frequencies = frequenciesByTerm.get(term);
+            frequencies.remove(taskId);
+            if (frequencies.isEmpty()) {
+                frequenciesByTerm.remove(term);
+            }
+        }
+        totalLength -= lengthByTaskId.remove(taskId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.hackathon_AI.index;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+public final class Trigrams {
+    public static final int LENGTH = 3;
+
+    private Trigrams() {
+    }
+
+    public static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> of(String normalized) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + LENGTH <= normalized.length(); i++) {
+            trigrams.add(normalized.substring(i, i + LENGTH));
+        }
+        return trigrams;
+    }
+}
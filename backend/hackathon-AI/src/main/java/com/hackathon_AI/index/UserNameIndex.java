@@ -0,0 +1,175 @@
+package com.hackathon_AI.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fuzzy lookup of users by first and last name over padded, accent-folded word trigrams.
+ * <p>
+ * A user matches when at least {@link #MIN_SHARED} of the query's trigrams appear in the
+ * name, so a dropped or swapped letter still finds it. Matches are ranked by how many
+ * trigrams they share, then by the shortest name. Both are worked out on bitmaps: one
+ * "shares at least j trigrams" bitmap per j, and users bucketed by their trigram count,
+ * so no per-user scoring happens even when a common name matches tens of thousands.
+ */
+@Component
+public class UserNameIndex {
+    static final double MIN_SHARED = 0.5;
+
+    private final Map<String, RoaringBitmap> userIdsByTrigram = new HashMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> userIdsByNameSize = new TreeMap<>();
+    private final Map<Integer, Set<String>> trigramsByUserId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void index(Integer userId, String firstName, String lastName) {
+        Set<String> trigrams = trigramsOf(firstName + " " + lastName);
+        lock.writeLock().lock();
+        try {
+            removeUser(userId);
+            for (String trigram : trigrams) {
+                userIdsByTrigram.computeIfAbsent(trigram, t -> new RoaringBitmap()).add(userId);
+            }
+            userIdsByNameSize.computeIfAbsent(trigrams.size(), size -> new RoaringBitmap()).add(userId);
+            trigramsByUserId.put(userId, trigrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            userIdsByTrigram.clear();
+            userIdsByNameSize.clear();
+            trigramsByUserId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Ids of the closest names, best first; ties go to the older user. */
+    public List<Integer> search(String query, int limit) {
+        Set<String> queryTrigrams = trigramsOf(query);
+        if (queryTrigrams.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int required = (int) Math.ceil(queryTrigrams.size() * MIN_SHARED);
+
+        lock.readLock().lock();
+        try {
+            List<Integer> ranked = new ArrayList<>(limit);
+            // while typing, exact matches usually fill the page and the other counts are never needed
+            RoaringBitmap sharingAll = sharingAll(queryTrigrams);
+            addByNameSize(sharingAll, ranked, limit);
+            if (ranked.size() == limit || required == queryTrigrams.size()) {
+                return ranked;
+            }
+            RoaringBitmap[] sharingAtLeast = sharingAtLeast(queryTrigrams, required);
+            for (int shared = queryTrigrams.size() - 1; shared >= required && ranked.size() < limit; shared--) {
+                addByNameSize(RoaringBitmap.andNot(sharingAtLeast[shared], sharingAtLeast[shared + 1]), ranked, limit);
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trigramsByUserId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addByNameSize(RoaringBitmap userIds, List<Integer> ranked, int limit) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        for (RoaringBitmap sameSize : userIdsByNameSize.values()) {
+            for (int userId : RoaringBitmap.and(userIds, sameSize)) {
+                ranked.add(userId);
+                if (ranked.size() == limit) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private RoaringBitmap sharingAll(Set<String> queryTrigrams) {
+        List<RoaringBitmap> postings = new ArrayList<>(queryTrigrams.size());
+        for (String trigram : queryTrigrams) {
+            RoaringBitmap posting = userIdsByTrigram.get(trigram);
+            if (posting == null) {
+                return new RoaringBitmap();
+            }
+            postings.add(posting);
+        }
+        return FastAggregation.and(postings.iterator());
+    }
+
+    // entry j holds the users found in at least j of the query's postings, for every j >= required
+    private RoaringBitmap[] sharingAtLeast(Set<String> queryTrigrams, int required) {
+        int total = queryTrigrams.size();
+        RoaringBitmap[] sharingAtLeast = new RoaringBitmap[total + 1];
+        for (int j = 1; j <= total; j++) {
+            sharingAtLeast[j] = new RoaringBitmap();
+        }
+        int seen = 0;
+        for (String trigram : queryTrigrams) {
+            RoaringBitmap posting = userIdsByTrigram.get(trigram);
+            seen++;
+            if (posting == null) {
+                continue;
+            }
+            // counts too low to reach required with the postings left are not kept up to date;
+            // downwards, so each step still reads the counts from before this posting
+            int lowest = Math.max(1, required - (total - seen));
+            for (int j = seen; j >= lowest; j--) {
+                sharingAtLeast[j].or(j == 1 ? posting : RoaringBitmap.and(sharingAtLeast[j - 1], posting));
+            }
+        }
+        return sharingAtLeast;
+    }
+
+    // words are padded so short names and word starts get trigrams of their own
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : Tokens.of(text)) {
+            trigrams.addAll(Trigrams.of(" " + word + " "));
+        }
+        return trigrams;
+    }
+
+    private void removeUser(Integer userId) {
+        Set<String> trigrams = trigramsByUserId.remove(userId);
+        if (trigrams == null) {
+            return;
+        }
+        for (String trigram : trigrams) {
+            removeFrom(userIdsByTrigram, trigram, userId);
+        }
+        removeFrom(userIdsByNameSize, trigrams.size(), userId);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> postings, K key, int userId) {
+        RoaringBitmap userIds = postings.get(key);
+        userIds.remove(userId);
+        if (userIds.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
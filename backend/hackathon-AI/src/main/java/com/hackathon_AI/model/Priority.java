@@ -0,0 +1,32 @@
+package com.hackathon_AI.model;
+
+/**
+ * Declared most urgent first: tasks store the ordinal, so {@code ORDER BY priority} sorts by
+ * urgency. Reordering or inserting constants changes what the stored numbers mean.
+ */
+public enum Priority {
+    HIGH,
+    MEDIUM,
+    LOW;
+
+    // values() returns a fresh copy on every call
+    private static final Priority[] VALUES = values();
+
+    /** The constant stored as {@code ordinal} in tasks.priority. */
+    public static Priority fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /** Case-insensitive lookup without allocating; {@code null} when nothing matches. */
+    public static Priority parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (Priority priority : VALUES) {
+            if (priority.name().equalsIgnoreCase(value)) {
+                return priority;
+            }
+        }
+        return null;
+    }
+}
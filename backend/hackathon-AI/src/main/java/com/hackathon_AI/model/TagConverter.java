@@ -0,0 +1,33 @@
+package com.hackathon_AI.model;
+
+import com.hackathon_AI.services.TagDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores task tags as integer ids from the tag dictionary while the entity keeps exposing
+ * plain strings. Loaded tags are the dictionary's canonical instances, shared across tasks.
+ * Hibernate also runs it on query parameters, so it only looks tags up: writes register them
+ * through {@link TagDictionary#register} first, and an unknown tag becomes a null id that no
+ * row matches (and that the NOT NULL tag_id column refuses).
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class TagConverter implements AttributeConverter<String, Integer> {
+    // resolved on first use: converters are created while the entity manager factory is being built
+    private final ObjectProvider<TagDictionary> tagDictionary;
+
+    @Override
+    public Integer convertToDatabaseColumn(String tag) {
+        return tag == null ? null : tagDictionary.getObject().idOf(tag);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer tagId) {
+        return tagId == null ? null : tagDictionary.getObject().nameOf(tagId);
+    }
+}
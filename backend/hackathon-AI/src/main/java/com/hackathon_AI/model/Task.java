@@ -5,6 +5,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,39 +19,62 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_assignee_created_at_id", columnList = "assignee_id, created_at, id"),
+        @Index(name = "idx_tasks_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_tasks_priority_end_date_id", columnList = "priority, end_date, id")
+})
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Integer id;
     private String title;
     private String description;
-    @Column(name = "end_date")
+    @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
     
-    @ManyToOne
+    // lazy, so writes never join users: listings fetch them explicitly or map them by id
+    // through UserCache, which does not initialize the reference
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
     private User creator;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private User assignee;
 
     @ElementCollection
-    @CollectionTable(name = "task_tags", joinColumns = @JoinColumn(name = "task_id"))
-    @Column(name = "tag")
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-tags")
+    @CollectionTable(name = "task_tags", joinColumns = @JoinColumn(name = "task_id"),
+            indexes = @Index(name = "idx_task_tags_tag_id", columnList = "tag_id"))
+    @Column(name = "tag_id", nullable = false)
+    @Convert(converter = TagConverter.class)
     private List<String> tags = new ArrayList<>();
-    private String priority;
+    // the ordinal in a tinyint, ordered by urgency; see Priority
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private Priority priority;
     @Enumerated(EnumType.STRING)
     private TaskStatus status;
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+    // checked and bumped by every UPDATE, and sent to clients as the task's ETag; the default
+    // covers rows inserted with plain SQL, such as data.sql
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer version;
 
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        // new tasks count as changed, so the change feed only has to look at updated_at
+        this.updatedAt = this.createdAt;
     }
 
     @PreUpdate
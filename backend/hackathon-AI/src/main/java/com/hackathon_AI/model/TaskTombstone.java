@@ -0,0 +1,25 @@
+package com.hackathon_AI.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Marks a deleted task so the change feed can tell clients to drop it.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "task_tombstones", indexes = @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at"))
+public class TaskTombstone {
+    @Id
+    @Column(name = "task_id")
+    private Integer taskId;
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
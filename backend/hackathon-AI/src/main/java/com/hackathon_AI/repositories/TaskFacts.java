@@ -0,0 +1,10 @@
+package com.hackathon_AI.repositories;
+
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+
+import java.time.LocalDate;
+
+/** One row of {@link TaskRepository#streamFacts()}: what TaskStatsIndex counts a task by. */
+public record TaskFacts(Integer id, TaskStatus status, Priority priority, Integer assigneeId, LocalDate endDate) {
+}
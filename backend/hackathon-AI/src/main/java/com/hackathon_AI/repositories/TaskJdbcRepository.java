@@ -0,0 +1,118 @@
+package com.hackathon_AI.repositories;
+
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.services.TagDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only task listings as one SQL statement each, mapped straight into TaskDTOs: no
+ * entities, persistence context or second query for the tags, which come back aggregated
+ * into an array of tag ids and resolve through the {@link TagDictionary}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+    // creator and assignee joined once each; tags read per task through the task_id foreign key index
+    private static final String SELECT_TASKS = """
+            SELECT t.id, t.title, t.description, t.end_date, t.priority, t.status, t.created_at, t.updated_at, t.version,
+                   c.id AS c_id, c.first_name AS c_first_name, c.last_name AS c_last_name, c.birth_date AS c_birth_date,
+                   a.id AS a_id, a.first_name AS a_first_name, a.last_name AS a_last_name, a.birth_date AS a_birth_date,
+                   (SELECT ARRAY_AGG(tt.tag_id) FROM task_tags tt WHERE tt.task_id = t.id) AS tag_ids
+            FROM tasks t
+            JOIN users c ON c.id = t.creator_id
+            LEFT JOIN users a ON a.id = t.assignee_id
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final TagDictionary tagDictionary;
+
+    public List<TaskDTO> findAll() {
+        return jdbcClient.sql(SELECT_TASKS)
+                .query(new TaskDTORowMapper())
+                .list();
+    }
+
+    public List<TaskDTO> findByAssigneeId(Integer assigneeId) {
+        return jdbcClient.sql(SELECT_TASKS + "WHERE t.assignee_id = ?")
+                .param(assigneeId)
+                .query(new TaskDTORowMapper())
+                .list();
+    }
+
+    // one per query: tasks sharing a user share its UserDTO, as they do through UserCache on the JPA path
+    private final class TaskDTORowMapper implements RowMapper<TaskDTO> {
+        private final Map<Integer, UserDTO> users = new HashMap<>();
+
+        @Override
+        public TaskDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return TaskDTO.builder()
+                    .id(rs.getInt("id"))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .endDate(rs.getObject("end_date", LocalDate.class))
+                    .creator(user(rs, "c_"))
+                    .assignee(user(rs, "a_"))
+                    .tags(tags(rs.getArray("tag_ids")))
+                    .priority(Priority.fromOrdinal(rs.getInt("priority")))
+                    .status(status(rs.getString("status")))
+                    .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                    .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                    .version(rs.getInt("version"))
+                    .build();
+        }
+
+        private UserDTO user(ResultSet rs, String prefix) throws SQLException {
+            int id = rs.getInt(prefix + "id");
+            if (rs.wasNull()) {
+                return null;
+            }
+            UserDTO user = users.get(id);
+            if (user == null) {
+                user = UserDTO.builder()
+                        .id(id)
+                        .firstName(rs.getString(prefix + "first_name"))
+                        .lastName(rs.getString(prefix + "last_name"))
+                        .birthDate(rs.getObject(prefix + "birth_date", LocalDate.class))
+                        .build();
+                users.put(id, user);
+            }
+            return user;
+        }
+
+        private List<String> tags(Array tagIds) throws SQLException {
+            if (tagIds == null) {
+                return new ArrayList<>();
+            }
+            try {
+                Object[] ids = (Object[]) tagIds.getArray();
+                List<String> tags = new ArrayList<>(ids.length);
+                for (Object id : ids) {
+                    tags.add(tagDictionary.nameOf(((Number) id).intValue()));
+                }
+                return tags;
+            } finally {
+                tagIds.free();
+            }
+        }
+
+        private static TaskStatus status(String status) {
+            return status == null ? null : TaskStatus.valueOf(status);
+        }
+    }
+}
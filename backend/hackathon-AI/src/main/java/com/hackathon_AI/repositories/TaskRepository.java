@@ -1,22 +1,112 @@
 package com.hackathon_AI.repositories;
 
+import com.hackathon_AI.model.Priority;
 import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskStatus;
 import com.hackathon_AI.model.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Integer> {
+    @EntityGraph(attributePaths = {"creator", "assignee", "tags"})
+    @Query("SELECT t FROM Task t")
+    List<Task> findAllWithUsersAndTags();
+
+    @EntityGraph(attributePaths = {"creator", "assignee", "tags"})
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findAllWithUsersAndTagsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @EntityGraph(attributePaths = {"creator", "assignee", "tags"})
+    @Query("SELECT t FROM Task t WHERE t.updatedAt > :since")
+    List<Task> findAllWithUsersAndTagsUpdatedAfter(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Task t JOIN FETCH t.creator LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.tags ORDER BY t.id")
+    Stream<Task> streamAllWithUsersAndTags();
+
+    @EntityGraph(attributePaths = {"creator", "assignee"})
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt, t.id")
+    List<Task> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = {"creator", "assignee"})
+    @Query("SELECT t FROM Task t WHERE t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Integer id, Limit limit);
+
+    @EntityGraph(attributePaths = {"creator", "assignee"})
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId ORDER BY t.createdAt, t.id")
+    List<Task> findFirstPageByAssigneeId(@Param("assigneeId") Integer assigneeId, Limit limit);
+
+    @EntityGraph(attributePaths = {"creator", "assignee"})
+    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId AND t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id) ORDER BY t.createdAt, t.id")
+    List<Task> findPageByAssigneeIdAfter(@Param("assigneeId") Integer assigneeId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Integer id, Limit limit);
+
+    @EntityGraph(attributePaths = {"creator", "assignee"})
+    @Query("SELECT t FROM Task t ORDER BY t.priority, t.endDate, t.id")
+    List<Task> findFirstPageByPriority(Limit limit);
+
+    // the leading range on priority lets the scan start at the cursor instead of the first row
+    @EntityGraph(attributePaths = {"creator", "assignee"})
+    @Query("SELECT t FROM Task t WHERE t.priority >= :priority AND (t.priority > :priority OR t.endDate > :endDate "
+            + "OR (t.endDate = :endDate AND t.id > :id)) ORDER BY t.priority, t.endDate, t.id")
+    List<Task> findPageByPriorityAfter(@Param("priority") Priority priority, @Param("endDate") LocalDate endDate,
+                                       @Param("id") Integer id, Limit limit);
+
     List<Task> findByAssigneeId(Integer assigneeId);
     
     List<Task> findByAssignee(User assignee);
     
-    @Query("SELECT t FROM Task t JOIN t.tags tag WHERE LOWER(tag) LIKE LOWER(CONCAT('%', :tag, '%'))")
+    @Query(value = "SELECT DISTINCT t.* FROM tasks t JOIN task_tags tt ON tt.task_id = t.id JOIN tags g ON g.id = tt.tag_id "
+            + "WHERE LOWER(g.name) LIKE LOWER(CONCAT('%', :tag, '%'))", nativeQuery = true)
     List<Task> findTasksByTagsContaining(@Param("tag") String tagPattern);
     
     @Query("SELECT t FROM Task t JOIN t.tags tag WHERE tag = :exactTag")
     List<Task> findTasksByExactTag(@Param("exactTag") String exactTag);
+
+    // the assignee id is the foreign key column, so no join with users
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.hackathon_AI.repositories.TaskFacts(t.id, t.status, t.priority, t.assignee.id, t.endDate) FROM Task t")
+    Stream<TaskFacts> streamFacts();
+
+    // bulk JPQL bypasses @Version, so every UPDATE below bumps the version itself
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 WHERE t.id = :id")
+    int updateStatus(@Param("id") Integer id, @Param("status") TaskStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "WHERE t.id = :id AND t.version = :version")
+    int updateStatusIfVersion(@Param("id") Integer id, @Param("version") Integer version,
+                              @Param("status") TaskStatus status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Integer> findIdsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT t.id FROM Task t WHERE t.assignee.id = :assigneeId")
+    List<Integer> findIdsByAssigneeId(@Param("assigneeId") Integer assigneeId);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Integer> ids, @Param("status") TaskStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "WHERE t.id IN :ids")
+    int updateAssigneeByIdIn(@Param("ids") Collection<Integer> ids, @Param("assignee") User assignee,
+                             @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,20 @@
+package com.hackathon_AI.repositories;
+
+import com.hackathon_AI.model.TaskTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Integer> {
+    @Query("SELECT t.taskId FROM TaskTombstone t WHERE t.deletedAt > :since")
+    List<Integer> findTaskIdsDeletedAfter(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
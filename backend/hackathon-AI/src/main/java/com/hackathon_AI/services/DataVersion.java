@@ -0,0 +1,40 @@
+package com.hackathon_AI.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the task and user data, served as the ETag of the listings.
+ * Writes bump it only after they commit, and readers take the ETag before querying,
+ * so a response can be tagged older than its data but never newer.
+ */
+@Component
+public class DataVersion {
+    // versions restart with the process, so the boot time keeps old ETags from matching
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    public String etag() {
+        return "\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+}
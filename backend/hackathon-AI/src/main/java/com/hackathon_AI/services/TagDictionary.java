@@ -0,0 +1,157 @@
+package com.hackathon_AI.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the tags table. Every distinct tag text is stored once and referenced by id
+ * from task_tags; the name instances handed out here are shared by every task carrying the tag.
+ * <p>
+ * Only {@link #register} inserts, on the caller's transaction and connection, and rows it sees
+ * inside a transaction reach the shared maps once that transaction commits. Lookups never
+ * insert, so a query for an unknown tag simply matches nothing.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagDictionary {
+    private final JdbcClient jdbcClient;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcClient.sql("SELECT id, name FROM tags")
+                .query(rs -> { cache(rs.getInt("id"), rs.getString("name")); });
+    }
+
+    /**
+     * Canonical instances of the given tags, inserting the ones the tags table does not have yet.
+     * Call it from the write transaction that stores them, before the tags reach an entity.
+     */
+    public List<String> register(Collection<String> tags) {
+        List<String> canonical = new ArrayList<>();
+        if (tags == null) {
+            return canonical;
+        }
+        for (String tag : tags) {
+            Integer id = idOf(tag);
+            if (id == null) {
+                id = insert(tag);
+            }
+            canonical.add(nameOf(id));
+        }
+        return canonical;
+    }
+
+    /**
+     * The id of an existing tag, or null when the tags table does not have it.
+     */
+    public Integer idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        Pending pending = pending();
+        if (pending != null && (id = pending.idsByName.get(name)) != null) {
+            return id;
+        }
+        return findId(name);
+    }
+
+    public String nameOf(Integer id) {
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        Pending pending = pending();
+        if (pending != null && (name = pending.namesById.get(id)) != null) {
+            return name;
+        }
+        return jdbcClient.sql("SELECT name FROM tags WHERE id = :id")
+                .param("id", id)
+                .query(String.class)
+                .optional()
+                .map(found -> remember(id, found))
+                .orElseThrow(() -> new IllegalStateException("Unknown tag id " + id));
+    }
+
+    private Integer insert(String name) {
+        try {
+            jdbcClient.sql("INSERT INTO tags (name) VALUES (:name)").param("name", name).update();
+        } catch (DuplicateKeyException e) {
+            // another writer registered the same tag first; H2 leaves our transaction usable
+        }
+        return findId(name);
+    }
+
+    private Integer findId(String name) {
+        return jdbcClient.sql("SELECT id FROM tags WHERE name = :name")
+                .param("name", name)
+                .query(Integer.class)
+                .optional()
+                .map(id -> {
+                    remember(id, name);
+                    return id;
+                })
+                .orElse(null);
+    }
+
+    // inside a transaction the row may still roll back, so it stays transaction-local until commit
+    private String remember(Integer id, String name) {
+        Pending pending = pending();
+        if (pending == null) {
+            return cache(id, name);
+        }
+        String canonical = pending.namesById.computeIfAbsent(id, key -> name);
+        pending.idsByName.putIfAbsent(canonical, id);
+        return canonical;
+    }
+
+    private String cache(Integer id, String name) {
+        String canonical = namesById.computeIfAbsent(id, key -> name);
+        idsByName.putIfAbsent(canonical, id);
+        return canonical;
+    }
+
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    created.namesById.forEach(TagDictionary.this::cache);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(TagDictionary.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private static final class Pending {
+        private final Map<String, Integer> idsByName = new HashMap<>();
+        private final Map<Integer, String> namesById = new HashMap<>();
+    }
+}
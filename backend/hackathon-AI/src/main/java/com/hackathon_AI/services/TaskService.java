@@ -1,46 +1,151 @@
 package com.hackathon_AI.services;
 
+import com.hackathon_AI.config.TaskReadPathProperties;
+import com.hackathon_AI.config.TaskReadPathProperties.ReadPath;
+import com.hackathon_AI.config.TaskTombstoneProperties;
+import com.hackathon_AI.dto.request.BulkReassignDTO;
+import com.hackathon_AI.dto.request.BulkUpdateStatusDTO;
 import com.hackathon_AI.dto.request.CreateTaskDTO;
 import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.BulkUpdateResultDTO;
+import com.hackathon_AI.dto.response.TaskChangesDTO;
 import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.TaskPageDTO;
+import com.hackathon_AI.dto.response.TaskStatusDTO;
+import com.hackathon_AI.dto.response.UserDTO;
 import com.hackathon_AI.dto.request.UpdateTaskDTO;
+import com.hackathon_AI.events.TaskDeletedEvent;
+import com.hackathon_AI.events.TaskSavedEvent;
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.events.TaskStatusChangedEvent;
+import com.hackathon_AI.events.TasksReassignedEvent;
+import com.hackathon_AI.index.TagIndex;
+import com.hackathon_AI.index.TaskFilter;
+import com.hackathon_AI.index.TaskFilterIndex;
+import com.hackathon_AI.index.TaskTextIndex;
+import com.hackathon_AI.model.Priority;
 import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskTombstone;
 import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.TaskJdbcRepository;
 import com.hackathon_AI.repositories.TaskRepository;
+import com.hackathon_AI.repositories.TaskTombstoneRepository;
 import com.hackathon_AI.repositories.UserRepository;
 import com.hackathon_AI.utils.Converter;
+import com.hackathon_AI.utils.SyncToken;
+import com.hackathon_AI.utils.PriorityCursor;
+import com.hackathon_AI.utils.TaskCursor;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    private static final int ID_BATCH_SIZE = 1000;
+    // matches hibernate.jdbc.batch_size so each flush sends whole JDBC batches
+    private static final int INSERT_CHUNK_SIZE = 50;
+    // writes stamp updatedAt before they commit, so a feed read can miss a row stamped just
+    // before it; handing back a token this far in the past picks such rows up on the next poll
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
     private final TaskRepository taskRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
     private final UserRepository userRepository;
     private final Converter converter;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagIndex tagIndex;
+    private final TaskFilterIndex taskFilterIndex;
+    private final TaskTextIndex taskTextIndex;
+    private final TagDictionary tagDictionary;
+    private final UserCache userCache;
+    private final DataVersion dataVersion;
+    private final TaskReadPathProperties readPath;
+    private final TaskTombstoneProperties tombstones;
 
+    @Transactional
     public TaskDTO createTask(CreateTaskDTO task) {
-        User creator = userRepository.findById(task.getCreatorId())
-                .orElseThrow(() -> new EntityNotFoundException("Creator not found"));
-        User assignee = userRepository.findById(task.getAssigneeId())
-                .orElseThrow(() -> new EntityNotFoundException("Assignee not found"));
+        User creator = userReference(task.getCreatorId(), "Creator not found");
+        User assignee = userReference(task.getAssigneeId(), "Assignee not found");
 
         Task newTask = new Task();
         BeanUtils.copyProperties(task, newTask);
-        newTask.setPriority(task.getPriority().toUpperCase());
+        newTask.setTags(tagDictionary.register(task.getTags()));
+        newTask.setPriority(Priority.parse(task.getPriority()));
         newTask.setCreator(creator);
         newTask.setAssignee(assignee);
-        return converter.toTaskResponseDTO(taskRepository.save(newTask));
+        return saveAndPublish(newTask);
+    }
+
+    @Transactional
+    public List<TaskDTO> createTasks(List<CreateTaskDTO> tasks) {
+        if (tasks.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must have at most " + MAX_BATCH_SIZE + " tasks");
+        }
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, User> users = findUsers(tasks);
+
+        List<TaskDTO> created = new ArrayList<>(tasks.size());
+        List<Task> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (CreateTaskDTO dto : tasks) {
+            Task newTask = new Task();
+            BeanUtils.copyProperties(dto, newTask);
+            newTask.setTags(tagDictionary.register(dto.getTags()));
+            newTask.setPriority(Priority.parse(dto.getPriority()));
+            newTask.setCreator(users.get(dto.getCreatorId()));
+            newTask.setAssignee(users.get(dto.getAssigneeId()));
+            chunk.add(newTask);
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                created.addAll(saveChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created.addAll(saveChunk(chunk));
+        }
+        dataVersion.bump();
+        return created;
     }
 
-    public TaskDTO updateTask(Integer taskId, UpdateTaskDTO dto) {
+    /**
+     * Applies the non-blank fields of {@code dto}. With an {@code expectedVersion} (the If-Match
+     * ETag) the update only goes ahead if the task is still at that version; either way the
+     * UPDATE itself checks the version read here, so a concurrent edit is never silently overwritten.
+     */
+    @Transactional
+    public TaskDTO updateTask(Integer taskId, UpdateTaskDTO dto, Integer expectedVersion) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new OptimisticLockingFailureException("Task was modified by another request");
+        }
 
         Optional.ofNullable(dto.getTitle())
                 .filter(title -> !title.isBlank())
@@ -55,49 +160,337 @@ public class TaskService {
 
         Optional.ofNullable(dto.getTags())
                 .filter(tags -> !tags.isEmpty())
-                .ifPresent(task::setTags);
+                .ifPresent(tags -> task.setTags(tagDictionary.register(tags)));
 
         Optional.ofNullable(dto.getPriority())
-                .ifPresent(priority -> task.setPriority(priority.toUpperCase()));
+                .ifPresent(priority -> task.setPriority(Priority.parse(priority)));
 
         Optional.ofNullable(dto.getStatus())
                 .ifPresent(task::setStatus);
 
         Optional.ofNullable(dto.getAssigneeId())
-                .ifPresent(assigneeId -> {
-                    User assignee = userRepository.findById(assigneeId)
-                            .orElseThrow(() -> new EntityNotFoundException("Assignee not found"));
-                    task.setAssignee(assignee);
-                });
+                .ifPresent(assigneeId -> task.setAssignee(userReference(assigneeId, "Assignee not found")));
 
-        return converter.toTaskResponseDTO(taskRepository.save(task));
+        // @PreUpdate does not run when only the tags collection changed
+        task.setUpdatedAt(LocalDateTime.now());
+        return saveAndPublish(task);
     }
 
-    public TaskDTO updateTaskStatus(Integer taskId, UpdateTaskStatusDTO newStatus) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+    /**
+     * A single UPDATE instead of load + full-row save. With an {@code expectedVersion} it only
+     * matches the row at that version, and the new version is known without reading it back.
+     */
+    @Transactional
+    public TaskStatusDTO updateTaskStatus(Integer taskId, UpdateTaskStatusDTO newStatus, Integer expectedVersion) {
+        // @PreUpdate does not run for bulk JPQL
+        LocalDateTime updatedAt = LocalDateTime.now();
+        int updated = expectedVersion == null
+                ? taskRepository.updateStatus(taskId, newStatus.getStatus(), updatedAt)
+                : taskRepository.updateStatusIfVersion(taskId, expectedVersion, newStatus.getStatus(), updatedAt);
+        if (updated == 0) {
+            // only a miss costs the second statement that tells a stale version from a missing task
+            if (expectedVersion != null && taskRepository.existsById(taskId)) {
+                throw new OptimisticLockingFailureException("Task was modified by another request");
+            }
+            throw new EntityNotFoundException("Task not found");
+        }
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(List.of(taskId), newStatus.getStatus(), updatedAt));
+        dataVersion.bump();
+        return TaskStatusDTO.builder()
+                .id(taskId)
+                .status(newStatus.getStatus())
+                .updatedAt(updatedAt)
+                .version(expectedVersion == null ? null : expectedVersion + 1)
+                .build();
+    }
 
-        task.setStatus(newStatus.getStatus());
+    @Transactional
+    public BulkUpdateResultDTO updateTasksStatus(BulkUpdateStatusDTO dto) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<Integer> taskIds = findExistingIds(dto.getIds());
+        int updated = 0;
+        for (List<Integer> batch : batches(taskIds)) {
+            updated += taskRepository.updateStatusByIdIn(batch, dto.getStatus(), updatedAt);
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(taskIds, dto.getStatus(), updatedAt));
+            dataVersion.bump();
+        }
+        return new BulkUpdateResultDTO(updated);
+    }
+
+    @Transactional
+    public BulkUpdateResultDTO reassignTasks(BulkReassignDTO dto) {
+        boolean byIds = dto.getIds() != null && !dto.getIds().isEmpty();
+        if (byIds == (dto.getFromUserId() != null)) {
+            throw new IllegalArgumentException("Provide either ids or fromUserId");
+        }
+        User assignee = userReference(dto.getToUserId(), "Assignee not found");
 
-        return converter.toTaskResponseDTO(taskRepository.save(task));
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<Integer> taskIds = byIds
+                ? findExistingIds(dto.getIds())
+                : taskRepository.findIdsByAssigneeId(dto.getFromUserId());
+        int updated = 0;
+        for (List<Integer> batch : batches(taskIds)) {
+            updated += taskRepository.updateAssigneeByIdIn(batch, assignee, updatedAt);
+        }
+        if (updated > 0) {
+            eventPublisher.publishEvent(new TasksReassignedEvent(taskIds, dto.getToUserId(), updatedAt));
+            dataVersion.bump();
+        }
+        return new BulkUpdateResultDTO(updated);
     }
 
+    @Transactional
     public void deleteTask(Integer taskId) {
         if (!taskRepository.existsById(taskId)) {
             throw new EntityNotFoundException("Task not found");
         }
         taskRepository.deleteById(taskId);
+        taskTombstoneRepository.save(new TaskTombstone(taskId, LocalDateTime.now()));
+        eventPublisher.publishEvent(new TaskDeletedEvent(taskId));
+        dataVersion.bump();
+    }
+
+    /**
+     * Tasks created, updated or deleted after the given sync token; without one, or with one older
+     * than the tombstone retention, every task with {@code resync} set.
+     * Clients upsert {@code changed}, drop {@code deleted} and send {@code nextToken} on the next call.
+     * Consecutive responses overlap by a few seconds, so a task may show up twice.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesDTO listTaskChanges(String token) {
+        // read the clock first: anything committed after this point is picked up next time
+        LocalDateTime syncedAt = LocalDateTime.now();
+        LocalDateTime since = token == null ? null : SyncToken.decode(token).since();
+        // tombstones older than the retention may be pruned already, so such a token cannot be diffed
+        boolean resync = since == null || since.isBefore(syncedAt.minus(tombstones.retention()));
+        List<TaskDTO> changed;
+        List<Integer> deleted;
+        if (resync) {
+            changed = converter.toTaskResponseDTOList(taskRepository.findAllWithUsersAndTags());
+            deleted = List.of();
+        } else {
+            changed = converter.toTaskResponseDTOList(taskRepository.findAllWithUsersAndTagsUpdatedAfter(since));
+            deleted = taskTombstoneRepository.findTaskIdsDeletedAfter(since);
+        }
+        return TaskChangesDTO.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .nextToken(new SyncToken(syncedAt.minus(SYNC_OVERLAP)).encode())
+                .resync(resync)
+                .build();
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> listTasksByUser(Integer userId) {
+        if (readPath.byUser() == ReadPath.JDBC) {
+            return taskJdbcRepository.findByAssigneeId(userId);
+        }
         return converter.toTaskResponseDTOList(taskRepository.findByAssigneeId(userId));
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> searchTasksByTag(String tag) {
-        return converter.toTaskResponseDTOList(taskRepository.findTasksByTagsContaining(tag));
+        Set<Integer> taskIds = tagIndex.findTaskIds(tag);
+        List<Task> tasks = new ArrayList<>(taskIds.size());
+        for (List<Integer> batch : batches(List.copyOf(taskIds))) {
+            tasks.addAll(taskRepository.findAllWithUsersAndTagsByIdIn(batch));
+        }
+        return converter.toTaskResponseDTOList(tasks);
     }
 
+    /** Ranked by the in-memory text index; only the top {@code limit} tasks are loaded, best match first. */
+    @Transactional(readOnly = true)
+    public List<TaskDTO> searchTasksByText(String query, int limit) {
+        requireValidLimit(limit);
+        List<Integer> ids = taskTextIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, Integer> rankById = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rankById.put(ids.get(i), i);
+        }
+        List<Task> tasks = new ArrayList<>(taskRepository.findAllWithUsersAndTagsByIdIn(ids));
+        tasks.sort(Comparator.comparing(task -> rankById.get(task.getId())));
+        return converter.toTaskResponseDTOList(tasks);
+    }
+
+    /** Filtered from the in-memory bitmaps, then only the page of matching tasks is loaded, in id order. */
+    @Transactional(readOnly = true)
+    public TaskPageDTO filterTasks(TaskFilter filter, String cursor, int limit) {
+        Limit pageLimit = toPageLimit(limit);
+        List<Integer> ids = taskFilterIndex.findPage(filter, cursor == null ? null : decodeIdCursor(cursor), pageLimit.max());
+        boolean hasMore = ids.size() > limit;
+        List<Integer> pageIds = hasMore ? ids.subList(0, limit) : ids;
+        List<Task> tasks = new ArrayList<>(pageIds.size());
+        if (!pageIds.isEmpty()) {
+            tasks.addAll(taskRepository.findAllWithUsersAndTagsByIdIn(pageIds));
+            tasks.sort(Comparator.comparing(Task::getId));
+        }
+        return TaskPageDTO.builder()
+                .items(converter.toTaskResponseDTOList(tasks))
+                .nextCursor(hasMore ? String.valueOf(pageIds.get(limit - 1)) : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
     public List<TaskDTO> listAllTasks() {
-        return converter.toTaskResponseDTOList(taskRepository.findAll());
+        if (readPath.all() == ReadPath.JDBC) {
+            return taskJdbcRepository.findAll();
+        }
+        return converter.toTaskResponseDTOList(taskRepository.findAllWithUsersAndTags());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<TaskDTO> consumer) {
+        try (Stream<Task> tasks = taskRepository.streamAllWithUsersAndTags()) {
+            tasks.forEach(task -> {
+                consumer.accept(converter.toTaskResponseDTO(task));
+                // keep the persistence context from growing with the table
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO listTasksPage(String cursor, int limit) {
+        Limit pageLimit = toPageLimit(limit);
+        List<Task> tasks;
+        if (cursor == null) {
+            tasks = taskRepository.findFirstPage(pageLimit);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            tasks = taskRepository.findPageAfter(after.createdAt(), after.id(), pageLimit);
+        }
+        return toTaskPage(tasks, limit);
+    }
+
+    /** Most urgent first: by priority, then the nearest end date, walking idx_tasks_priority_end_date_id. */
+    @Transactional(readOnly = true)
+    public TaskPageDTO listTasksByPriorityPage(String cursor, int limit) {
+        Limit pageLimit = toPageLimit(limit);
+        List<Task> tasks;
+        if (cursor == null) {
+            tasks = taskRepository.findFirstPageByPriority(pageLimit);
+        } else {
+            PriorityCursor after = PriorityCursor.decode(cursor);
+            tasks = taskRepository.findPageByPriorityAfter(after.priority(), after.endDate(), after.id(), pageLimit);
+        }
+        return toTaskPage(tasks, limit, task -> PriorityCursor.of(task).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO listTasksByUserPage(Integer userId, String cursor, int limit) {
+        Limit pageLimit = toPageLimit(limit);
+        List<Task> tasks;
+        if (cursor == null) {
+            tasks = taskRepository.findFirstPageByAssigneeId(userId, pageLimit);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            tasks = taskRepository.findPageByAssigneeIdAfter(userId, after.createdAt(), after.id(), pageLimit);
+        }
+        return toTaskPage(tasks, limit);
+    }
+
+    private TaskDTO saveAndPublish(Task task) {
+        Task saved = taskRepository.save(task);
+        // the version only moves when the UPDATE runs, and the DTO has to carry the new one
+        taskRepository.flush();
+        eventPublisher.publishEvent(new TaskSavedEvent(TaskSnapshot.of(saved)));
+        dataVersion.bump();
+        return converter.toTaskResponseDTO(saved);
+    }
+
+    private Map<Integer, User> findUsers(List<CreateTaskDTO> tasks) {
+        Set<Integer> userIds = new HashSet<>();
+        tasks.forEach(task -> {
+            userIds.add(task.getCreatorId());
+            userIds.add(task.getAssigneeId());
+        });
+        Map<Integer, UserDTO> found = userCache.findAll(userIds);
+        for (CreateTaskDTO task : tasks) {
+            if (!found.containsKey(task.getCreatorId())) {
+                throw new EntityNotFoundException("Creator not found");
+            }
+            if (!found.containsKey(task.getAssigneeId())) {
+                throw new EntityNotFoundException("Assignee not found");
+            }
+        }
+        Map<Integer, User> users = new HashMap<>();
+        found.keySet().forEach(id -> users.put(id, userRepository.getReferenceById(id)));
+        return users;
+    }
+
+    // existence comes from the cache; the reference only carries the foreign key
+    private User userReference(Integer userId, String notFoundMessage) {
+        if (!userCache.exists(userId)) {
+            throw new EntityNotFoundException(notFoundMessage);
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    private List<Integer> findExistingIds(List<Integer> ids) {
+        List<Integer> existing = new ArrayList<>(ids.size());
+        for (List<Integer> batch : batches(List.copyOf(new LinkedHashSet<>(ids)))) {
+            existing.addAll(taskRepository.findIdsByIdIn(batch));
+        }
+        return existing;
+    }
+
+    private static List<List<Integer>> batches(List<Integer> ids) {
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ID_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + ID_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private List<TaskDTO> saveChunk(List<Task> chunk) {
+        List<Task> saved = taskRepository.saveAll(chunk);
+        entityManager.flush();
+        List<TaskDTO> dtos = new ArrayList<>(saved.size());
+        for (Task task : saved) {
+            eventPublisher.publishEvent(new TaskSavedEvent(TaskSnapshot.of(task)));
+            dtos.add(converter.toTaskResponseDTO(task));
+            // users stay managed across chunks; only the written tasks are released
+            entityManager.detach(task);
+        }
+        return dtos;
+    }
+
+    private Limit toPageLimit(int limit) {
+        requireValidLimit(limit);
+        // one extra row tells us whether another page exists without a count query
+        return Limit.of(limit + 1);
+    }
+
+    private static void requireValidLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static Integer decodeIdCursor(String cursor) {
+        try {
+            return Integer.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private TaskPageDTO toTaskPage(List<Task> tasks, int limit) {
+        return toTaskPage(tasks, limit, task -> TaskCursor.of(task).encode());
+    }
+
+    private TaskPageDTO toTaskPage(List<Task> tasks, int limit, Function<Task, String> cursorOf) {
+        boolean hasMore = tasks.size() > limit;
+        List<Task> page = hasMore ? tasks.subList(0, limit) : tasks;
+        return TaskPageDTO.builder()
+                .items(converter.toTaskResponseDTOList(page))
+                .nextCursor(hasMore ? cursorOf.apply(page.get(limit - 1)) : null)
+                .build();
     }
 }
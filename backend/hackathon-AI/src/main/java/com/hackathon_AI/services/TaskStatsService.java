@@ -0,0 +1,32 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.dto.response.TaskStatsDTO;
+import com.hackathon_AI.index.TaskStatsIndex;
+import com.hackathon_AI.repositories.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService {
+    private final TaskRepository taskRepository;
+    private final TaskStatsIndex taskStatsIndex;
+
+    public TaskStatsDTO getStats() {
+        return taskStatsIndex.stats(LocalDate.now());
+    }
+
+    /**
+     * Recounts every task into fresh counters and swaps them in, so drift from a missed event
+     * is gone afterwards. Only the stats counters are rebuilt; /stats keeps answering from the
+     * current ones meanwhile, and the search and filter indexes are not touched.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsDTO reconcile() {
+        taskStatsIndex.rebuild(taskRepository::streamFacts);
+        return taskStatsIndex.stats(LocalDate.now());
+    }
+}
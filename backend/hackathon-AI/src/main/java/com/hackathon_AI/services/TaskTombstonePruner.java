@@ -0,0 +1,28 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.config.TaskTombstoneProperties;
+import com.hackathon_AI.repositories.TaskTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes tombstones older than the retention window, so the table stops growing with every
+ * delete. Tokens from before the window are answered with a full resync by the change feed.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskTombstonePruner {
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskTombstoneProperties tombstones;
+
+    @Scheduled(fixedDelayString = "${app.tasks.tombstones.prune-interval:1h}",
+            initialDelayString = "${app.tasks.tombstones.prune-interval:1h}")
+    @Transactional
+    public int prune() {
+        return taskTombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minus(tombstones.retention()));
+    }
+}
@@ -0,0 +1,88 @@
+package com.hackathon_AI.services;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bounded read-through cache of users by id. Users only change on creation, so the
+ * cached UserDTOs are shared between requests; W-TinyLFU keeps the busy assignees.
+ */
+@Service
+public class UserCache {
+    private final LoadingCache<Integer, UserDTO> users;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${app.cache.users.maximum-size:10000}") long maximumSize,
+                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public UserDTO load(Integer id) {
+                        return userRepository.findById(id).map(UserCache::toUserDTO).orElse(null);
+                    }
+
+                    @Override
+                    public Map<Integer, UserDTO> loadAll(Set<? extends Integer> ids) {
+                        Map<Integer, UserDTO> loaded = new HashMap<>();
+                        userRepository.findAllById(Set.copyOf(ids))
+                                .forEach(user -> loaded.put(user.getId(), toUserDTO(user)));
+                        return loaded;
+                    }
+                });
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, users, "users"));
+    }
+
+    public Optional<UserDTO> find(Integer id) {
+        return Optional.ofNullable(users.get(id));
+    }
+
+    /** Missing ids are left out of the result. */
+    public Map<Integer, UserDTO> findAll(Collection<Integer> ids) {
+        return users.getAll(ids);
+    }
+
+    public boolean exists(Integer id) {
+        return find(id).isPresent();
+    }
+
+    /** The cached DTO for an already loaded user; reading the id does not initialize a proxy. */
+    public UserDTO toDTO(User user) {
+        if (user == null) return null;
+        return users.get(user.getId(), id -> toUserDTO(user));
+    }
+
+    public void invalidate(Integer id) {
+        users.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return users.stats();
+    }
+
+    private static UserDTO toUserDTO(User user) {
+        return UserDTO.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .birthDate(user.getBirthDate())
+                .build();
+    }
+}
@@ -2,26 +2,80 @@ package com.hackathon_AI.services;
 
 import com.hackathon_AI.dto.request.CreateUserDTO;
 import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.events.UserCreatedEvent;
+import com.hackathon_AI.index.UserNameIndex;
 import com.hackathon_AI.model.User;
 import com.hackathon_AI.repositories.UserRepository;
 import com.hackathon_AI.utils.Converter;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    public static final int MAX_SEARCH_SIZE = 100;
+
     private final UserRepository userRepository;
     private final Converter converter;
+    private final UserCache userCache;
+    private final DataVersion dataVersion;
+    private final UserNameIndex userNameIndex;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public UserDTO createUser(CreateUserDTO user) {
-        User newUser = userRepository.save(converter.convertObject(user, User.class));
-        return converter.convertObject(newUser, UserDTO.class);
+        User newUser = userRepository.save(converter.toUser(user));
+        userCache.invalidate(newUser.getId());
+        eventPublisher.publishEvent(new UserCreatedEvent(newUser.getId(), newUser.getFirstName(), newUser.getLastName()));
+        dataVersion.bump();
+        return converter.toUserDTO(newUser);
     }
-    
+
+    @Transactional(readOnly = true)
     public List<UserDTO> listAllUsers() {
-        return converter.convertList(userRepository.findAll(), UserDTO.class);
+        return converter.toUserDTOList(userRepository.findAll());
+    }
+
+    /** Closest names first, read from the user cache so only uncached matches reach the database. */
+    public List<UserDTO> searchUsers(String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_SIZE);
+        }
+        List<Integer> ids = userNameIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, UserDTO> users = userCache.findAll(ids);
+        return ids.stream().map(users::get).filter(Objects::nonNull).toList();
+    }
+
+    // only once the row is committed, so a rolled-back user never shows up in searches
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCreated(UserCreatedEvent event) {
+        userNameIndex.index(event.userId(), event.firstName(), event.lastName());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildNameIndex() {
+        userNameIndex.clear();
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> {
+                userNameIndex.index(user.getId(), user.getFirstName(), user.getLastName());
+                entityManager.detach(user);
+            });
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.hackathon_AI.stream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hackathon_AI.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a board needs to move a card without reloading. Fields an event did not touch are null;
+ * a task the board does not know yet has to be fetched through the change feed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskChange(Integer id, boolean deleted, TaskStatus status, Integer assigneeId,
+                         LocalDateTime updatedAt) {
+
+    public static TaskChange deleted(Integer id) {
+        return new TaskChange(id, true, null, null, null);
+    }
+
+    /** Folds a later change for the same task into this one, so a buffer keeps one entry per task. */
+    TaskChange merge(TaskChange later) {
+        if (deleted || later.deleted) {
+            return deleted ? this : later;
+        }
+        return new TaskChange(id, false,
+                later.status != null ? later.status : status,
+                later.assigneeId != null ? later.assigneeId : assigneeId,
+                later.updatedAt != null ? later.updatedAt : updatedAt);
+    }
+}
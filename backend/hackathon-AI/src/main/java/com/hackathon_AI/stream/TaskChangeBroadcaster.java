@@ -0,0 +1,89 @@
+package com.hackathon_AI.stream;
+
+import com.hackathon_AI.events.TaskDeletedEvent;
+import com.hackathon_AI.events.TaskSavedEvent;
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.events.TaskStatusChangedEvent;
+import com.hackathon_AI.events.TasksReassignedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes committed task changes to every connected board over Server-Sent Events.
+ * An idle subscriber is just an open emitter; a virtual thread only exists while one is being written to,
+ * so a stalled client blocks its own sender and overflows its own buffer, never the others.
+ */
+@Component
+public class TaskChangeBroadcaster {
+    private final Set<TaskChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    public TaskChangeBroadcaster(@Value("${app.stream.buffer-size:256}") int bufferSize,
+                                 @Value("${app.stream.timeout:30m}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter subscribe() {
+        // EventSource reconnects on its own when the timeout closes the stream
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        TaskChangeSubscriber subscriber = new TaskChangeSubscriber(emitter, bufferSize, sender, subscribers::remove);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskSaved(TaskSavedEvent event) {
+        TaskSnapshot task = event.task();
+        broadcast(List.of(new TaskChange(task.id(), false, task.status(), task.assigneeId(), task.updatedAt())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        broadcast(List.of(TaskChange.deleted(event.taskId())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskStatusChanged(TaskStatusChangedEvent event) {
+        broadcast(event.taskIds().stream()
+                .map(id -> new TaskChange(id, false, event.status(), null, event.updatedAt()))
+                .toList());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksReassigned(TasksReassignedEvent event) {
+        broadcast(event.taskIds().stream()
+                .map(id -> new TaskChange(id, false, null, event.assigneeId(), event.updatedAt()))
+                .toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(TaskChangeSubscriber::close);
+        sender.shutdownNow();
+    }
+
+    private void broadcast(List<TaskChange> changes) {
+        // a bulk change costs each subscriber at most bufferSize merges before it flips to resync
+        subscribers.forEach(subscriber -> subscriber.offer(changes));
+    }
+}
@@ -0,0 +1,102 @@
+package com.hackathon_AI.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * One connected board. Changes wait in a buffer keyed by task id until a sender drains it;
+ * when a slow client lets the buffer overflow, the buffer is dropped and the client is told to resync.
+ */
+class TaskChangeSubscriber {
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final int bufferSize;
+    private final Executor sender;
+    private final Consumer<TaskChangeSubscriber> onClose;
+
+    private final Map<Integer, TaskChange> pending = new LinkedHashMap<>();
+    private boolean resync;
+    private boolean sending;
+    private boolean closed;
+
+    TaskChangeSubscriber(SseEmitter emitter, int bufferSize, Executor sender, Consumer<TaskChangeSubscriber> onClose) {
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    void offer(List<TaskChange> changes) {
+        synchronized (this) {
+            if (closed || resync) {
+                return;
+            }
+            for (TaskChange change : changes) {
+                pending.merge(change.id(), change, TaskChange::merge);
+                if (pending.size() > bufferSize) {
+                    // whatever was buffered is stale anyway once the client reloads
+                    pending.clear();
+                    resync = true;
+                    break;
+                }
+            }
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        sender.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            List<TaskChange> changes;
+            boolean sendResync;
+            synchronized (this) {
+                if (closed || (pending.isEmpty() && !resync)) {
+                    sending = false;
+                    return;
+                }
+                changes = new ArrayList<>(pending.values());
+                pending.clear();
+                sendResync = resync;
+                resync = false;
+            }
+            try {
+                if (sendResync) {
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+                } else {
+                    for (TaskChange change : changes) {
+                        emitter.send(SseEmitter.event().name(CHANGE_EVENT).data(change, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // client went away or the emitter already completed
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        onClose.accept(this);
+    }
+}
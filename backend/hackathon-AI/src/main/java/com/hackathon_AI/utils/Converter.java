@@ -1,5 +1,6 @@
 package com.hackathon_AI.utils;
 
+import com.hackathon_AI.dto.request.CreateUserDTO;
 import com.hackathon_AI.dto.response.TaskDTO;
 import com.hackathon_AI.dto.response.UserDTO;
 import com.hackathon_AI.model.Task;
@@ -15,7 +16,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class Converter {
     private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final TaskMapper taskMapper;
 
+    // reflective fallback for types without a generated mapper
     public <S, T> T convertObject(S source, Class<T> targetClass) {
         return modelMapper.map(source, targetClass);
     }
@@ -27,36 +31,23 @@ public class Converter {
                 .collect(Collectors.toList());
     }
 
-    public TaskDTO toTaskResponseDTO(Task task) {
-        return TaskDTO.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .endDate(task.getEndDate())
-                .creator(toUserDTO(task.getCreator()))
-                .assignee(toUserDTO(task.getAssignee()))
-                .tags(task.getTags())
-                .priority(task.getPriority())
-                .status(task.getStatus())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .build();
+    public User toUser(CreateUserDTO dto) {
+        return userMapper.toUser(dto);
     }
 
-    private UserDTO toUserDTO(User user) {
-        if (user == null) return null;
+    public UserDTO toUserDTO(User user) {
+        return userMapper.toUserDTO(user);
+    }
 
-        return UserDTO.builder()
-                .id(user.getId())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .birthDate(user.getBirthDate())
-                .build();
+    public List<UserDTO> toUserDTOList(List<User> users) {
+        return userMapper.toUserDTOList(users);
+    }
+
+    public TaskDTO toTaskResponseDTO(Task task) {
+        return taskMapper.toTaskDTO(task);
     }
 
     public List<TaskDTO> toTaskResponseDTOList(List<Task> tasks) {
-        return tasks.stream()
-                .map(this::toTaskResponseDTO)
-                .toList();
+        return taskMapper.toTaskDTOList(tasks);
     }
 }
@@ -0,0 +1,40 @@
+package com.hackathon_AI.utils;
+
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a task in the (priority, endDate, id) ordering of the urgency listing,
+ * encoded like {@link TaskCursor}.
+ */
+public record PriorityCursor(Priority priority, LocalDate endDate, Integer id) {
+    private static final String SEPARATOR = "|";
+
+    public static PriorityCursor of(Task task) {
+        return new PriorityCursor(task.getPriority(), task.getEndDate(), task.getId());
+    }
+
+    public static PriorityCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            Priority priority = parts.length == 3 ? Priority.parse(parts[0]) : null;
+            if (priority == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PriorityCursor(priority, LocalDate.parse(parts[1]), Integer.valueOf(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = priority + SEPARATOR + endDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.hackathon_AI.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Point in time a client has synced up to, handed back by the change feed.
+ * Opaque and URL-safe like {@link TaskCursor}, so the format can change without breaking clients.
+ */
+public record SyncToken(LocalDateTime since) {
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new SyncToken(LocalDateTime.parse(raw));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid sync token");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.hackathon_AI.utils;
+
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.services.UserCache;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Generated at compile time. Creator and assignee go through {@link UserCache#toDTO}, so
+ * tasks sharing a user share one UserDTO instead of each allocating a copy.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = UserCache.class,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface TaskMapper {
+
+    TaskDTO toTaskDTO(Task task);
+
+    List<TaskDTO> toTaskDTOList(List<Task> tasks);
+}
@@ -0,0 +1,26 @@
+package com.hackathon_AI.utils;
+
+import com.hackathon_AI.dto.request.CreateUserDTO;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/** Generated at compile time; a new field on either side fails the build until it is mapped or ignored. */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface UserMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "age", ignore = true)
+    User toUser(CreateUserDTO dto);
+
+    // age is derived from birthDate by UserDTO itself
+    @Mapping(target = "age", ignore = true)
+    UserDTO toUserDTO(User user);
+
+    List<UserDTO> toUserDTOList(List<User> users);
+}
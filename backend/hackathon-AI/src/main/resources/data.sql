@@ -13,39 +13,63 @@ VALUES
     ('2005-12-05', 'Anna', 'Ivanova'),
     ('1977-01-20', 'David', 'Garcia');
 
+-- priority is the Priority ordinal: 0 = HIGH, 1 = MEDIUM, 2 = LOW
 INSERT INTO tasks
-    (assignee_id, creator_id, description, end_date, created_at, priority, status, title)
+    (id, assignee_id, creator_id, description, end_date, created_at, priority, status, title)
 VALUES
-    (1, 1, 'Lavar a louça', '2025-06-27', '2025-06-26', 'HIGH', 'IN_PROGRESS', 'Louça Suja'),
-    (1, 1, 'Comprar mantimentos', '2025-06-29', '2025-06-27', 'HIGH', 'PENDING', 'Lista de compras'),
-    (2, 2, 'Revisar código do módulo X', '2025-07-01', '2025-06-28', 'HIGH', 'IN_PROGRESS', 'Revisão Módulo X'),
-    (3, 1, 'Pagar contas de luz e água', '2025-07-02', '2025-06-28', 'HIGH', 'COMPLETED', 'Contas do mês'),
-    (2, 3, 'Agendar reunião com cliente Y', '2025-07-03', '2025-06-28', 'MEDIUM', 'PENDING', 'Proposta comercial'),
-    (6, 2, 'Escrever documentação da API', '2025-07-04', '2025-06-28', 'LOW', 'IN_PROGRESS', 'Documentação API'),
-    (7, 1, 'Levar carro para revisão', '2025-06-12', '2025-06-10', 'MEDIUM', 'PENDING', 'Manutenção preventiva'),
-    (8, 3, 'Preparar apresentação para evento', '2025-06-18', '2025-06-15', 'HIGH', 'REVIEW', 'Slide deck'),
-    (9, 2, 'Pesquisar novas tecnologias', '2025-06-25', '2025-06-20', 'LOW', 'COMPLETED', 'Exploração'),
-    (10, 1, 'Limpar a casa', DATEADD('DAY', 5, NOW()), NOW(), 'LOW', 'PENDING', 'Organização semanal');
+    (1, 1, 1, 'Lavar a louça', '2025-06-27', '2025-06-26', 0, 'IN_PROGRESS', 'Louça Suja'),
+    (2, 1, 1, 'Comprar mantimentos', '2025-06-29', '2025-06-27', 0, 'PENDING', 'Lista de compras'),
+    (3, 2, 2, 'Revisar código do módulo X', '2025-07-01', '2025-06-28', 0, 'IN_PROGRESS', 'Revisão Módulo X'),
+    (4, 3, 1, 'Pagar contas de luz e água', '2025-07-02', '2025-06-28', 0, 'COMPLETED', 'Contas do mês'),
+    (5, 2, 3, 'Agendar reunião com cliente Y', '2025-07-03', '2025-06-28', 1, 'PENDING', 'Proposta comercial'),
+    (6, 6, 2, 'Escrever documentação da API', '2025-07-04', '2025-06-28', 2, 'IN_PROGRESS', 'Documentação API'),
+    (7, 7, 1, 'Levar carro para revisão', '2025-06-12', '2025-06-10', 1, 'PENDING', 'Manutenção preventiva'),
+    (8, 8, 3, 'Preparar apresentação para evento', '2025-06-18', '2025-06-15', 0, 'REVIEW', 'Slide deck'),
+    (9, 9, 2, 'Pesquisar novas tecnologias', '2025-06-25', '2025-06-20', 2, 'COMPLETED', 'Exploração'),
+    (10, 10, 1, 'Limpar a casa', DATEADD('DAY', 5, NOW()), NOW(), 2, 'PENDING', 'Organização semanal');
+
+-- tasks use a pooled sequence (allocation size 50); move it past the seeded ids
+ALTER SEQUENCE tasks_seq RESTART WITH 100;
+
+INSERT INTO tags
+    (name)
+VALUES
+    ('casa'),
+    ('compras'),
+    ('revisão'),
+    ('trabalho'),
+    ('contas'),
+    ('reunião'),
+    ('cliente y'),
+    ('documentação'),
+    ('api'),
+    ('carro'),
+    ('manutenção'),
+    ('apresentação'),
+    ('evento'),
+    ('pesquisa'),
+    ('tecnologia'),
+    ('limpeza');
 
 INSERT INTO task_tags
-    (task_id, tag)
+    (task_id, tag_id)
 VALUES
-    (1, 'casa'),
-    (2, 'compras'),
-    (2, 'casa'),
-    (3, 'revisão'),
-    (3, 'trabalho'),
-    (4, 'contas'),
-    (4, 'casa'),
-    (5, 'reunião'),
-    (5, 'cliente y'),
-    (6, 'documentação'),
-    (6, 'api'),
-    (7, 'carro'),
-    (7, 'manutenção'),
-    (8, 'apresentação'),
-    (8, 'evento'),
-    (9, 'pesquisa'),
-    (9, 'tecnologia'),
-    (10, 'limpeza'),
-    (10, 'casa');
+    (1, 1),
+    (2, 2),
+    (2, 1),
+    (3, 3),
+    (3, 4),
+    (4, 5),
+    (4, 1),
+    (5, 6),
+    (5, 7),
+    (6, 8),
+    (6, 9),
+    (7, 10),
+    (7, 11),
+    (8, 12),
+    (8, 13),
+    (9, 14),
+    (9, 15),
+    (10, 16),
+    (10, 1);
\ No newline at end of file
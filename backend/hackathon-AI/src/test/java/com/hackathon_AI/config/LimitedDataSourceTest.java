@@ -0,0 +1,52 @@
+package com.hackathon_AI.config;
+
+import com.hackathon_AI.exception.DatabaseBusyException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LimitedDataSourceTest {
+
+    private LimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limited-data-source");
+        dataSource = new LimitedDataSource(h2, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    void shouldRejectConnectionsBeyondThePermits() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertThat(dataSource.availablePermits()).isZero();
+
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(DatabaseBusyException.class);
+        }
+    }
+
+    @Test
+    void shouldReleaseThePermitWhenTheConnectionCloses() throws Exception {
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPassCallsThroughToTheConnection() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+            assertThat(connection.getMetaData().getDatabaseProductName()).isEqualTo("H2");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.hackathon_AI.controllers;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// real services and database, so the statement counts cover the whole request
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conditional-get",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+public class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldAnswerUnchangedTaskReloadWithoutSql() throws Exception {
+        String etag = etagOf("/api/tasks");
+        statistics.clear();
+
+        mockMvc.perform(get("/api/tasks")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldAnswerUnchangedUserReloadWithoutSql() throws Exception {
+        String etag = etagOf("/api/users");
+        statistics.clear();
+
+        mockMvc.perform(get("/api/users")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void shouldServeFreshListingAfterAWrite() throws Exception {
+        String etag = etagOf("/api/users");
+
+        mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\":\"Carla\",\"lastName\":\"Souza\",\"birthDate\":\"1994-03-02\"}"))
+                .andExpect(status().isCreated());
+
+        String newEtag = mockMvc.perform(get("/api/users")
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.firstName == 'Carla')]").exists())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        // tasks share the version, so their cached copies are revalidated too
+        mockMvc.perform(get("/api/tasks")
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    private String etagOf(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+}
@@ -0,0 +1,61 @@
+package com.hackathon_AI.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// a single permit, so holding one connection here leaves none for the request
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:database-limiter",
+        "spring.jpa.show-sql=false",
+        "app.db.limiter.enabled=true",
+        "app.db.limiter.permits=1",
+        "app.db.limiter.timeout=100ms"
+})
+@AutoConfigureMockMvc
+public class DatabaseLimiterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldAnswerServiceUnavailableWhileEveryPermitIsTaken() throws Exception {
+        try (Connection held = dataSource.getConnection()) {
+            mockMvc.perform(get("/api/tasks/user/{userId}", 1))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.error").value("Database is busy, try again later"));
+        }
+
+        mockMvc.perform(get("/api/tasks/user/{userId}", 1))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRegisterNewTagsOnTheWriteTransactionsOwnConnection() throws Exception {
+        // a second connection for the tags row would wait for the only permit and answer 503
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "Podar as roseiras", "description": "Antes da primavera",
+                                 "endDate": "%s", "creatorId": 1, "assigneeId": 1,
+                                 "tags": ["tag-nunca-vista"], "priority": "LOW", "status": "PENDING"}
+                                """.formatted(LocalDate.now().plusDays(3))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.tags[0]").value("tag-nunca-vista"));
+    }
+}
@@ -2,16 +2,25 @@ package com.hackathon_AI.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hackathon_AI.dto.request.BulkReassignDTO;
+import com.hackathon_AI.dto.request.BulkUpdateStatusDTO;
 import com.hackathon_AI.dto.request.CreateTaskDTO;
 import com.hackathon_AI.dto.request.UpdateTaskDTO;
 import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.BulkUpdateResultDTO;
+import com.hackathon_AI.dto.response.TaskChangesDTO;
 import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.TaskPageDTO;
+import com.hackathon_AI.dto.response.TaskStatusDTO;
 import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.index.TaskFilter;
+import com.hackathon_AI.model.Priority;
 import com.hackathon_AI.model.TaskStatus;
 import com.hackathon_AI.services.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,8 +28,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 import java.time.LocalDate;
@@ -28,11 +39,17 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,6 +70,7 @@ public class TaskControllerIntegrationTest {
     private TaskService taskService;
 
     @Autowired
+    @Qualifier("requestMappingHandlerMapping")
     private RequestMappingHandlerMapping handlerMapping;
 
     private ObjectMapper objectMapper;
@@ -97,7 +115,7 @@ public class TaskControllerIntegrationTest {
                 .creator(creatorUserDTO)
                 .assignee(assigneeUserDTO)
                 .tags(Arrays.asList("tag1", "tag2"))
-                .priority("HIGH")
+                .priority(Priority.HIGH)
                 .status(TaskStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -149,6 +167,90 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.title").exists());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateTasksInBatchAndReturn201Created() throws Exception {
+        CreateTaskDTO createTaskDTO = new CreateTaskDTO();
+        createTaskDTO.setTitle("Imported Task");
+        createTaskDTO.setDescription("Imported Description");
+        createTaskDTO.setEndDate(LocalDate.now().plusDays(10));
+        createTaskDTO.setCreatorId(creatorUserDTO.getId());
+        createTaskDTO.setAssigneeId(assigneeUserDTO.getId());
+        createTaskDTO.setPriority("LOW");
+        createTaskDTO.setStatus(TaskStatus.PENDING);
+
+        when(taskService.createTasks(any(List.class))).thenReturn(List.of(taskDTO, taskDTO));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(createTaskDTO, createTaskDTO))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnBadRequestWithIndexWhenBatchContainsInvalidTask() throws Exception {
+        CreateTaskDTO validTaskDTO = new CreateTaskDTO();
+        validTaskDTO.setTitle("Valid Task");
+        validTaskDTO.setDescription("Description");
+        validTaskDTO.setEndDate(LocalDate.now().plusDays(5));
+        validTaskDTO.setCreatorId(1);
+        validTaskDTO.setAssigneeId(2);
+        validTaskDTO.setPriority("HIGH");
+        validTaskDTO.setStatus(TaskStatus.PENDING);
+
+        CreateTaskDTO invalidTaskDTO = new CreateTaskDTO();
+        invalidTaskDTO.setTitle("");
+        invalidTaskDTO.setDescription("Description");
+        invalidTaskDTO.setEndDate(LocalDate.now().plusDays(5));
+        invalidTaskDTO.setCreatorId(1);
+        invalidTaskDTO.setAssigneeId(2);
+        invalidTaskDTO.setPriority("HIGH");
+        invalidTaskDTO.setStatus(TaskStatus.PENDING);
+
+        clearInvocations(taskService);
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(validTaskDTO, invalidTaskDTO))))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['tasks[1].title']").exists());
+
+        verify(taskService, never()).createTasks(any(List.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnBadRequestWithIndexWhenBatchContainsNullTask() throws Exception {
+        clearInvocations(taskService);
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[null]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['tasks[0]']").value("Task must not be null"));
+
+        verify(taskService, never()).createTasks(any(List.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnBadRequestWhenBatchIsTooLarge() throws Exception {
+        clearInvocations(taskService);
+        String tasks = String.join(",", Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, "{}"));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + tasks + "]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.tasks").value("Batch must have at most " + TaskService.MAX_BATCH_SIZE + " tasks"));
+
+        verify(taskService, never()).createTasks(any(List.class));
+    }
+
     @Test
     void shouldGetAllTasksAndReturn200Ok() throws Exception {
         List<TaskDTO> tasks = Arrays.asList(taskDTO, TaskDTO.builder().id(2).title("Another Task").creator(creatorUserDTO).assignee(assigneeUserDTO).status(TaskStatus.COMPLETED).build());
@@ -164,6 +266,169 @@ public class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].title").value("Another Task"));
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutListingWhenEtagMatches() throws Exception {
+        when(taskService.listAllTasks()).thenReturn(List.of(taskDTO));
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(taskService);
+
+        mockMvc.perform(get("/api/tasks")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).listAllTasks();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamAllTasksAsNdjson() throws Exception {
+        TaskDTO anotherTask = TaskDTO.builder().id(2).title("Another Task").status(TaskStatus.COMPLETED).build();
+        doAnswer(invocation -> {
+            Consumer<TaskDTO> consumer = invocation.getArgument(0);
+            consumer.accept(taskDTO);
+            consumer.accept(anotherTask);
+            return null;
+        }).when(taskService).streamAllTasks(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks")
+                .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(taskDTO.getId(), objectMapper.readValue(lines[0], TaskDTO.class).getId());
+        assertEquals("Another Task", objectMapper.readValue(lines[1], TaskDTO.class).getTitle());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotStreamWhenClientAcceptsAnything() throws Exception {
+        clearInvocations(taskService);
+        when(taskService.listAllTasks()).thenReturn(List.of(taskDTO));
+
+        mockMvc.perform(get("/api/tasks")
+                .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+
+        verify(taskService, never()).streamAllTasks(any(Consumer.class));
+    }
+
+    @Test
+    void shouldGetTasksPageWhenLimitIsGiven() throws Exception {
+        TaskPageDTO page = TaskPageDTO.builder().items(List.of(taskDTO)).nextCursor("next").build();
+        when(taskService.listTasksPage("abc", 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tasks")
+                .param("limit", "1")
+                .param("cursor", "abc"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(taskDTO.getId()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void shouldGetTasksByPriorityPage() throws Exception {
+        TaskPageDTO page = TaskPageDTO.builder().items(List.of(taskDTO)).nextCursor("next").build();
+        when(taskService.listTasksByPriorityPage(null, 50)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tasks/by-priority"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void shouldGetTasksByUserPageWhenLimitIsGiven() throws Exception {
+        Integer userId = assigneeUserDTO.getId();
+        TaskPageDTO page = TaskPageDTO.builder().items(List.of(taskDTO)).build();
+        when(taskService.listTasksByUserPage(userId, null, 20)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tasks/user/{userId}", userId)
+                .param("limit", "20"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(taskDTO.getId()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldFilterTasksByRepeatedParameters() throws Exception {
+        TaskFilter filter = TaskFilter.of(List.of(TaskStatus.PENDING, TaskStatus.REVIEW), List.of("HIGH"), List.of(2));
+        TaskPageDTO page = TaskPageDTO.builder().items(List.of(taskDTO)).nextCursor(null).build();
+        when(taskService.filterTasks(filter, null, 50)).thenReturn(page);
+
+        mockMvc.perform(get("/api/tasks/filter")
+                .param("status", "PENDING", "REVIEW")
+                .param("priority", "high")
+                .param("assigneeId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(taskDTO.getId()));
+    }
+
+    @Test
+    void shouldSearchTasksByText() throws Exception {
+        when(taskService.searchTasksByText("revisao", 20)).thenReturn(List.of(taskDTO));
+
+        mockMvc.perform(get("/api/tasks/search/text")
+                .param("q", "revisao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(taskDTO.getId()));
+    }
+
+    @Test
+    void shouldGetTaskStatsWithoutListingTasks() throws Exception {
+        clearInvocations(taskService);
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").isNumber())
+                .andExpect(jsonPath("$.byStatus.PENDING").isNumber())
+                .andExpect(jsonPath("$.overdue").isNumber());
+
+        verify(taskService, never()).listAllTasks();
+    }
+
+    @Test
+    void shouldOpenTaskChangeStream() throws Exception {
+        mockMvc.perform(get("/api/tasks/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void shouldGetTaskChangesSinceToken() throws Exception {
+        TaskChangesDTO changes = TaskChangesDTO.builder()
+                .changed(List.of(taskDTO))
+                .deleted(List.of(7))
+                .nextToken("next")
+                .build();
+        when(taskService.listTaskChanges("abc")).thenReturn(changes);
+
+        mockMvc.perform(get("/api/tasks/changes")
+                .param("since", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[0].id").value(taskDTO.getId()))
+                .andExpect(jsonPath("$.deleted[0]").value(7))
+                .andExpect(jsonPath("$.nextToken").value("next"));
+    }
+
     @Test
     void shouldGetTasksByUserAndReturn200Ok() throws Exception {
         List<TaskDTO> userTasks = Collections.singletonList(taskDTO);
@@ -214,7 +479,7 @@ public class TaskControllerIntegrationTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(taskService.updateTask(eq(taskDTO.getId()), any(UpdateTaskDTO.class))).thenReturn(updatedTaskDTO);
+        when(taskService.updateTask(eq(taskDTO.getId()), any(UpdateTaskDTO.class), isNull())).thenReturn(updatedTaskDTO);
 
         mockMvc.perform(put("/api/tasks/{id}", taskDTO.getId())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -243,28 +508,127 @@ public class TaskControllerIntegrationTest {
         UpdateTaskStatusDTO updateStatusDTO = new UpdateTaskStatusDTO();
         updateStatusDTO.setStatus(TaskStatus.COMPLETED);
 
-        TaskDTO updatedTaskDTO = TaskDTO.builder()
+        TaskStatusDTO updatedTaskDTO = TaskStatusDTO.builder()
+                .id(taskDTO.getId())
+                .status(TaskStatus.COMPLETED)
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(taskService.updateTaskStatus(eq(taskDTO.getId()), any(UpdateTaskStatusDTO.class), isNull())).thenReturn(updatedTaskDTO);
+
+        mockMvc.perform(put("/api/tasks/{id}/status", taskDTO.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateStatusDTO)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskDTO.getId()))
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.updatedAt").exists())
+                .andExpect(jsonPath("$.title").doesNotExist());
+    }
+
+    @Test
+    void shouldPassIfMatchVersionAndReturnNewETag() throws Exception {
+        UpdateTaskStatusDTO updateStatusDTO = new UpdateTaskStatusDTO(TaskStatus.COMPLETED);
+        TaskStatusDTO updatedTaskDTO = TaskStatusDTO.builder()
                 .id(taskDTO.getId())
-                .title(taskDTO.getTitle())
-                .description(taskDTO.getDescription())
-                .endDate(taskDTO.getEndDate())
-                .creator(taskDTO.getCreator())
-                .assignee(taskDTO.getAssignee())
-                .tags(taskDTO.getTags())
-                .priority(taskDTO.getPriority())
                 .status(TaskStatus.COMPLETED)
-                .createdAt(taskDTO.getCreatedAt())
                 .updatedAt(LocalDateTime.now())
+                .version(4)
                 .build();
 
-        when(taskService.updateTaskStatus(eq(taskDTO.getId()), any(UpdateTaskStatusDTO.class))).thenReturn(updatedTaskDTO);
+        when(taskService.updateTaskStatus(eq(taskDTO.getId()), any(UpdateTaskStatusDTO.class), eq(3))).thenReturn(updatedTaskDTO);
 
         mockMvc.perform(put("/api/tasks/{id}/status", taskDTO.getId())
+                .header("If-Match", "\"3\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateStatusDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void shouldReturnPreconditionFailedWhenTaskWasModified() throws Exception {
+        UpdateTaskDTO updateTaskDTO = new UpdateTaskDTO();
+        updateTaskDTO.setTitle("Stale edit");
+        updateTaskDTO.setPriority("HIGH");
+
+        when(taskService.updateTask(eq(taskDTO.getId()), any(UpdateTaskDTO.class), eq(3)))
+                .thenThrow(new OptimisticLockingFailureException("Task was modified by another request"));
+
+        mockMvc.perform(put("/api/tasks/{id}", taskDTO.getId())
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateTaskDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Task was modified by another request"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenIfMatchIsNotAVersion() throws Exception {
+        clearInvocations(taskService);
+
+        mockMvc.perform(put("/api/tasks/{id}/status", taskDTO.getId())
+                .header("If-Match", "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UpdateTaskStatusDTO(TaskStatus.COMPLETED))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("If-Match must be the quoted task version"));
+
+        verify(taskService, never()).updateTaskStatus(any(), any(), any());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenStatusIsMissing() throws Exception {
+        clearInvocations(taskService);
+
+        mockMvc.perform(put("/api/tasks/{id}/status", taskDTO.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("Status is required"));
+
+        verify(taskService, never()).updateTaskStatus(any(), any(), any());
+    }
+
+    @Test
+    void shouldUpdateTasksStatusInBulkAndReturnCount() throws Exception {
+        BulkUpdateStatusDTO update = new BulkUpdateStatusDTO(List.of(1, 2, 3), TaskStatus.COMPLETED);
+        when(taskService.updateTasksStatus(any(BulkUpdateStatusDTO.class))).thenReturn(new BulkUpdateResultDTO(3));
+
+        mockMvc.perform(put("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(3));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenBulkStatusHasNoIds() throws Exception {
+        BulkUpdateStatusDTO update = new BulkUpdateStatusDTO(List.of(), TaskStatus.COMPLETED);
+
+        mockMvc.perform(put("/api/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.ids").exists());
+    }
+
+    @Test
+    void shouldReassignTasksAndReturnCount() throws Exception {
+        BulkReassignDTO reassign = new BulkReassignDTO(null, creatorUserDTO.getId(), assigneeUserDTO.getId());
+        when(taskService.reassignTasks(any(BulkReassignDTO.class))).thenReturn(new BulkUpdateResultDTO(5));
+
+        mockMvc.perform(put("/api/tasks/reassign")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(reassign)))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.status").value("COMPLETED"));
+                .andExpect(jsonPath("$.updated").value(5));
     }
 
     @Test
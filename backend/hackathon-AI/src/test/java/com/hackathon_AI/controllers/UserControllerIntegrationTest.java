@@ -8,6 +8,7 @@ import com.hackathon_AI.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -24,7 +25,10 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -44,6 +48,7 @@ public class UserControllerIntegrationTest {
     private UserService userService;
 
     @Autowired
+    @Qualifier("requestMappingHandlerMapping")
     private RequestMappingHandlerMapping handlerMapping;
 
     private ObjectMapper objectMapper;
@@ -124,6 +129,23 @@ public class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutListingWhenEtagMatches() throws Exception {
+        when(userService.listAllUsers()).thenReturn(List.of());
+        String etag = mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(userService);
+
+        mockMvc.perform(get("/api/users")
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(userService, never()).listAllUsers();
+    }
+
     @Test
     void shouldReturnEmptyListWhenNoUsersExist() throws Exception {
         when(userService.listAllUsers()).thenReturn(List.of());
@@ -136,6 +158,17 @@ public class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    void shouldSearchUsersByName() throws Exception {
+        UserDTO user = UserDTO.builder().id(1).firstName("João").lastName("Silva").build();
+        when(userService.searchUsers("joao silv", 20)).thenReturn(List.of(user));
+
+        mockMvc.perform(get("/api/users/search")
+                .param("q", "joao silv"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].firstName").value("João"));
+    }
+
     @Test
     void shouldDiscoverAllEndpoints() {
         System.out.println("\n--- DISCOVERING SPRING MVC ENDPOINTS (UserController) ---");
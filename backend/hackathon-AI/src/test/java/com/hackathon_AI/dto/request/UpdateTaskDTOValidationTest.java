@@ -58,8 +58,12 @@ public class UpdateTaskDTOValidationTest {
         Set<ConstraintViolation<UpdateTaskDTO>> violations = validator.validate(dto);
         assertFalse(violations.isEmpty(), "Expected violations for too long title.");
         assertEquals(2, violations.size());
-        assertEquals("Title must have less than 100 characters", violations.iterator().next().getMessage());
-        assertEquals("title", violations.iterator().next().getPropertyPath().toString());
+        // violations come back in a HashSet, so look the title one up instead of taking the first
+        ConstraintViolation<UpdateTaskDTO> titleViolation = violations.stream()
+                .filter(violation -> violation.getPropertyPath().toString().equals("title"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Title must have less than 100 characters", titleViolation.getMessage());
     }
 
     @Test
@@ -0,0 +1,59 @@
+package com.hackathon_AI.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagIndexTest {
+
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new TagIndex();
+        tagIndex.index(1, List.of("casa", "compras"));
+        tagIndex.index(2, List.of("Trabalho", "revisão"));
+        tagIndex.index(3, List.of("casa", "limpeza"));
+    }
+
+    @Test
+    void shouldFindTasksBySubstringIgnoringCase() {
+        assertThat(tagIndex.findTaskIds("ABALH")).containsExactly(2);
+        assertThat(tagIndex.findTaskIds("asa")).containsExactlyInAnyOrder(1, 3);
+        assertThat(tagIndex.findTaskIds("visã")).containsExactly(2);
+    }
+
+    @Test
+    void shouldMatchPatternsShorterThanATrigram() {
+        assertThat(tagIndex.findTaskIds("co")).containsExactly(1);
+        assertThat(tagIndex.findTaskIds("a")).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void shouldNotMatchWhenTrigramsAreNotContiguous() {
+        assertThat(tagIndex.findTaskIds("casaco")).isEmpty();
+        assertThat(tagIndex.findTaskIds("xyz")).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceTagsWhenTaskIsReindexed() {
+        tagIndex.index(1, List.of("mercado"));
+
+        assertThat(tagIndex.findTaskIds("compras")).isEmpty();
+        assertThat(tagIndex.findTaskIds("casa")).containsExactly(3);
+        assertThat(tagIndex.findTaskIds("merc")).containsExactly(1);
+    }
+
+    @Test
+    void shouldForgetRemovedTasks() {
+        tagIndex.remove(3);
+        tagIndex.remove(42);
+
+        assertThat(tagIndex.findTaskIds("limp")).isEmpty();
+        assertThat(tagIndex.findTaskIds("casa")).containsExactly(1);
+        assertThat(tagIndex.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,89 @@
+package com.hackathon_AI.index;
+
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TaskFilterIndexTest {
+
+    private TaskFilterIndex taskFilterIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskFilterIndex = new TaskFilterIndex();
+        taskFilterIndex.index(task(1, TaskStatus.PENDING, Priority.HIGH, 1));
+        taskFilterIndex.index(task(2, TaskStatus.REVIEW, Priority.HIGH, 2));
+        taskFilterIndex.index(task(3, TaskStatus.PENDING, Priority.LOW, 2));
+        taskFilterIndex.index(task(4, TaskStatus.COMPLETED, Priority.HIGH, null));
+    }
+
+    @Test
+    void shouldOrValuesWithinAFieldAndAndAcrossFields() {
+        TaskFilter filter = TaskFilter.of(List.of(TaskStatus.PENDING, TaskStatus.REVIEW), List.of("high"), null);
+
+        assertThat(taskFilterIndex.find(filter).toArray()).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldMatchEveryTaskWithoutConstraints() {
+        assertThat(taskFilterIndex.find(TaskFilter.of(null, null, null)).toArray()).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldMatchNothingForUnknownAssignees() {
+        assertThat(taskFilterIndex.find(TaskFilter.of(List.of(TaskStatus.PENDING), null, List.of(9))).isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldRejectUnknownPriorities() {
+        assertThatThrownBy(() -> TaskFilter.of(null, List.of("URGENT"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldParsePrioritiesIgnoringCase() {
+        assertThat(taskFilterIndex.find(TaskFilter.of(null, List.of("low"), null)).toArray()).containsExactly(3);
+    }
+
+    @Test
+    void shouldMoveTasksBetweenBitmapsOnChanges() {
+        taskFilterIndex.updateStatus(List.of(1, 3), TaskStatus.COMPLETED);
+        taskFilterIndex.reassign(List.of(4), 2);
+        taskFilterIndex.index(task(2, TaskStatus.REVIEW, Priority.LOW, 2));
+        taskFilterIndex.remove(3);
+
+        assertThat(taskFilterIndex.find(TaskFilter.of(List.of(TaskStatus.COMPLETED), null, null)).toArray())
+                .containsExactly(1, 4);
+        assertThat(taskFilterIndex.find(TaskFilter.of(null, List.of("LOW"), List.of(2))).toArray()).containsExactly(2);
+        assertThat(taskFilterIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnResultsTheIndexNoLongerChanges() {
+        var pending = taskFilterIndex.find(TaskFilter.of(List.of(TaskStatus.PENDING), null, null));
+
+        taskFilterIndex.updateStatus(List.of(1), TaskStatus.COMPLETED);
+
+        assertThat(pending.toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    void shouldPageIdsAfterCursor() {
+        TaskFilter high = TaskFilter.of(null, List.of("HIGH"), null);
+
+        assertThat(taskFilterIndex.findPage(high, null, 2)).containsExactly(1, 2);
+        assertThat(taskFilterIndex.findPage(high, 2, 2)).containsExactly(4);
+        assertThat(taskFilterIndex.findPage(high, 4, 2)).isEmpty();
+    }
+
+    private static TaskSnapshot task(int id, TaskStatus status, Priority priority, Integer assigneeId) {
+        return new TaskSnapshot(id, "Task " + id, null, List.of(), status, priority, assigneeId, null, null);
+    }
+}
@@ -0,0 +1,138 @@
+package com.hackathon_AI.index;
+
+import com.hackathon_AI.dto.response.TaskStatsDTO;
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.repositories.TaskFacts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TaskStatsIndexTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+
+    private TaskStatsIndex taskStatsIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskStatsIndex = new TaskStatsIndex();
+        taskStatsIndex.index(task(1, TaskStatus.PENDING, Priority.HIGH, 1, TODAY.minusDays(2)));
+        taskStatsIndex.index(task(2, TaskStatus.IN_PROGRESS, Priority.LOW, 1, TODAY.plusDays(2)));
+        taskStatsIndex.index(task(3, TaskStatus.COMPLETED, Priority.HIGH, 2, TODAY.minusDays(1)));
+        taskStatsIndex.index(task(4, TaskStatus.PENDING, Priority.LOW, null, TODAY.minusDays(1)));
+    }
+
+    @Test
+    void shouldCountByStatusPriorityAndAssignee() {
+        TaskStatsDTO stats = taskStatsIndex.stats(TODAY);
+
+        assertThat(stats.getTotal()).isEqualTo(4);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.PENDING, 2L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(TaskStatus.COMPLETED, 1L)
+                .containsEntry(TaskStatus.REVIEW, 0L);
+        assertThat(stats.getByPriority()).isEqualTo(Map.of(Priority.HIGH, 2L, Priority.LOW, 2L));
+        assertThat(stats.getByAssignee()).isEqualTo(Map.of(1, 2L, 2, 1L));
+        assertThat(stats.getUnassigned()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountOnlyOpenTasksPastTheirEndDateAsOverdue() {
+        assertThat(taskStatsIndex.stats(TODAY).getOverdue()).isEqualTo(2);
+        // no write happened, the calendar moved
+        assertThat(taskStatsIndex.stats(TODAY.plusDays(3)).getOverdue()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMoveCountsWhenATaskIsSavedAgain() {
+        taskStatsIndex.index(task(1, TaskStatus.REVIEW, Priority.MEDIUM, 2, TODAY.plusDays(5)));
+
+        TaskStatsDTO stats = taskStatsIndex.stats(TODAY);
+        assertThat(stats.getTotal()).isEqualTo(4);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.REVIEW, 1L);
+        assertThat(stats.getByPriority()).isEqualTo(Map.of(Priority.HIGH, 1L, Priority.LOW, 2L, Priority.MEDIUM, 1L));
+        assertThat(stats.getByAssignee()).isEqualTo(Map.of(1, 1L, 2, 2L));
+        assertThat(stats.getOverdue()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyStatusChangesAndReassignments() {
+        taskStatsIndex.updateStatus(List.of(1, 4), TaskStatus.COMPLETED);
+        taskStatsIndex.reassign(List.of(2, 4), 3);
+
+        TaskStatsDTO stats = taskStatsIndex.stats(TODAY);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.PENDING, 0L).containsEntry(TaskStatus.COMPLETED, 3L);
+        assertThat(stats.getByAssignee()).isEqualTo(Map.of(1, 1L, 2, 1L, 3, 2L));
+        assertThat(stats.getUnassigned()).isZero();
+        assertThat(stats.getOverdue()).isZero();
+    }
+
+    @Test
+    void shouldIgnoreChangesToUnknownTasks() {
+        TaskStatsDTO before = taskStatsIndex.stats(TODAY);
+
+        taskStatsIndex.updateStatus(List.of(99), TaskStatus.REVIEW);
+        taskStatsIndex.reassign(List.of(99), 1);
+        taskStatsIndex.remove(99);
+
+        assertThat(taskStatsIndex.stats(TODAY)).isEqualTo(before);
+    }
+
+    @Test
+    void shouldForgetRemovedTasks() {
+        taskStatsIndex.remove(1);
+        taskStatsIndex.remove(1);
+
+        TaskStatsDTO stats = taskStatsIndex.stats(TODAY);
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByPriority()).isEqualTo(Map.of(Priority.HIGH, 1L, Priority.LOW, 2L));
+        assertThat(stats.getOverdue()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSwapInRebuiltCountersWithChangesMadeWhileRebuilding() {
+        TaskStatsDTO before = taskStatsIndex.stats(TODAY);
+        List<TaskStatsDTO> servedWhileRebuilding = new ArrayList<>();
+
+        taskStatsIndex.rebuild(() -> {
+            // an after-commit event landing while the query runs, which saw task 2 before it
+            taskStatsIndex.updateStatus(List.of(2), TaskStatus.COMPLETED);
+            servedWhileRebuilding.add(taskStatsIndex.stats(TODAY));
+            return Stream.of(
+                    new TaskFacts(1, TaskStatus.PENDING, Priority.HIGH, 1, TODAY.minusDays(2)),
+                    new TaskFacts(2, TaskStatus.IN_PROGRESS, Priority.LOW, 1, TODAY.plusDays(2)));
+        });
+
+        // reads kept using the old counters until the swap
+        assertThat(servedWhileRebuilding.get(0).getTotal()).isEqualTo(before.getTotal());
+        TaskStatsDTO stats = taskStatsIndex.stats(TODAY);
+        assertThat(stats.getTotal()).isEqualTo(2);
+        assertThat(stats.getByStatus()).containsEntry(TaskStatus.PENDING, 1L).containsEntry(TaskStatus.COMPLETED, 1L);
+        assertThat(stats.getUnassigned()).isZero();
+    }
+
+    @Test
+    void shouldKeepCurrentCountersWhenRebuildFails() {
+        TaskStatsDTO before = taskStatsIndex.stats(TODAY);
+
+        assertThatThrownBy(() -> taskStatsIndex.rebuild(() -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        taskStatsIndex.remove(1);
+
+        assertThat(taskStatsIndex.stats(TODAY).getTotal()).isEqualTo(before.getTotal() - 1);
+    }
+
+    private static TaskSnapshot task(int id, TaskStatus status, Priority priority, Integer assigneeId, LocalDate endDate) {
+        return new TaskSnapshot(id, "Task " + id, null, List.of(), status, priority, assigneeId, endDate, null);
+    }
+}
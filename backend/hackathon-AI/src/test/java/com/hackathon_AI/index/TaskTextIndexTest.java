@@ -0,0 +1,63 @@
+package com.hackathon_AI.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskTextIndexTest {
+
+    private TaskTextIndex taskTextIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskTextIndex = new TaskTextIndex();
+        taskTextIndex.index(1, "Revisão do relatório", "Revisar os números do trimestre");
+        taskTextIndex.index(2, "Lavar a louça", "Depois do almoço");
+        taskTextIndex.index(3, "Reunião de planejamento", "Trazer a revisão do relatório anterior e a pauta da reunião");
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        assertThat(taskTextIndex.search("LOUCA", 10)).containsExactly(2);
+        assertThat(taskTextIndex.search("revisao", 10)).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        assertThat(taskTextIndex.search("revisao relatorio", 10)).containsExactly(1, 3);
+        assertThat(taskTextIndex.search("reuniao", 10)).containsExactly(3);
+    }
+
+    @Test
+    void shouldKeepOnlyTheBestMatches() {
+        // task 1 says "do" twice, task 2 once in a shorter text, task 3 once in a longer one
+        assertThat(taskTextIndex.search("do", 2)).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldReindexAndRemoveTasks() {
+        taskTextIndex.index(2, "Secar a louça", null);
+        assertThat(taskTextIndex.search("lavar", 10)).isEmpty();
+        assertThat(taskTextIndex.search("secar", 10)).containsExactly(2);
+
+        taskTextIndex.remove(2);
+
+        assertThat(taskTextIndex.search("louca", 10)).isEmpty();
+        assertThat(taskTextIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMatchNothingForBlankOrUnknownQueries() {
+        assertThat(taskTextIndex.search("  ", 10)).isEmpty();
+        assertThat(taskTextIndex.search("inexistente", 10)).isEmpty();
+        assertThat(taskTextIndex.search("revisao", 0)).isEmpty();
+    }
+
+    @Test
+    void shouldFoldTokens() {
+        assertThat(Tokens.of("Ação: revisão, dia 2-Março!")).isEqualTo(List.of("acao", "revisao", "dia", "2", "marco"));
+    }
+}
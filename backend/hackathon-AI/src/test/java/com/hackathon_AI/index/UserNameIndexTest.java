@@ -0,0 +1,59 @@
+package com.hackathon_AI.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserNameIndexTest {
+
+    private UserNameIndex userNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        userNameIndex = new UserNameIndex();
+        userNameIndex.index(1, "João", "Silva");
+        userNameIndex.index(2, "Joana", "Silveira");
+        userNameIndex.index(3, "Maria", "Souza");
+        userNameIndex.index(4, "Jo", "Li");
+    }
+
+    @Test
+    void shouldIgnoreCaseAndAccents() {
+        assertThat(userNameIndex.search("JOAO", 10)).first().isEqualTo(1);
+        assertThat(userNameIndex.search("souza", 10)).containsExactly(3);
+    }
+
+    @Test
+    void shouldTolerateTypos() {
+        assertThat(userNameIndex.search("slva", 10)).first().isEqualTo(1);
+        assertThat(userNameIndex.search("mraia souza", 10)).containsExactly(3);
+    }
+
+    @Test
+    void shouldRankCloserNamesFirst() {
+        assertThat(userNameIndex.search("joao silva", 10)).first().isEqualTo(1);
+        assertThat(userNameIndex.search("silveira", 10)).first().isEqualTo(2);
+    }
+
+    @Test
+    void shouldFindShortNames() {
+        assertThat(userNameIndex.search("jo", 10)).first().isEqualTo(4);
+    }
+
+    @Test
+    void shouldLimitResults() {
+        assertThat(userNameIndex.search("jo", 1)).containsExactly(4);
+        assertThat(userNameIndex.search("   ", 10)).isEmpty();
+        assertThat(userNameIndex.search("zzzz", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReindexRenamedUsers() {
+        userNameIndex.index(3, "Mariana", "Costa");
+
+        assertThat(userNameIndex.search("souza", 10)).isEmpty();
+        assertThat(userNameIndex.search("costa", 10)).containsExactly(3);
+        assertThat(userNameIndex.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,52 @@
+package com.hackathon_AI.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataVersionTest {
+
+    private final DataVersion dataVersion = new DataVersion();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldBumpImmediatelyOutsideATransaction() {
+        String before = dataVersion.etag();
+
+        dataVersion.bump();
+
+        assertThat(dataVersion.current()).isEqualTo(1);
+        assertThat(dataVersion.etag()).isNotEqualTo(before).startsWith("\"").endsWith("\"");
+    }
+
+    @Test
+    void shouldBumpOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dataVersion.bump();
+        assertThat(dataVersion.current()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(dataVersion.current()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotBumpWhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dataVersion.bump();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(dataVersion.current()).isZero();
+    }
+}
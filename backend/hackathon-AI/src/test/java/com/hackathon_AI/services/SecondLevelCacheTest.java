@@ -0,0 +1,100 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.config.ModelMapperConfig;
+import com.hackathon_AI.config.TaskReadPathConfig;
+import com.hackathon_AI.config.TaskTombstoneConfig;
+import com.hackathon_AI.config.SecondLevelCacheConfig;
+import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.index.TagIndex;
+import com.hackathon_AI.index.TaskFilterIndex;
+import com.hackathon_AI.index.TaskTextIndex;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.TaskJdbcRepository;
+import com.hackathon_AI.utils.Converter;
+import com.hackathon_AI.utils.TaskMapperImpl;
+import com.hackathon_AI.utils.UserMapperImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TaskService.class, Converter.class, UserMapperImpl.class, TaskMapperImpl.class, ModelMapperConfig.class,
+        TagIndex.class, TagDictionary.class, UserCache.class, DataVersion.class, TaskFilterIndex.class, TaskTextIndex.class,
+        TaskJdbcRepository.class, TaskReadPathConfig.class, TaskTombstoneConfig.class, SecondLevelCacheConfig.class})
+public class SecondLevelCacheTest {
+    private static final int SEEDED_USER_ID = 1;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    // each call gets its own session, as requests do: READ_WRITE entries are only readable
+    // by sessions that start after the entry was cached, so one test transaction never hits
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldServeTagsFromSecondLevelCacheOnRepeatedListing() {
+        // read-only over rows seeded by data.sql, so nothing needs rolling back
+        List<TaskDTO> first = taskService.listTasksByUser(SEEDED_USER_ID);
+        statistics.clear();
+
+        List<TaskDTO> second = taskService.listTasksByUser(SEEDED_USER_ID);
+
+        // only the task query itself reaches the database
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(second).hasSize(first.size()).isNotEmpty();
+        assertThat(second).extracting(TaskDTO::getTags)
+                .containsExactlyInAnyOrderElementsOf(first.stream().map(TaskDTO::getTags).toList());
+
+        CacheRegionStatistics tags = statistics.getDomainDataRegionStatistics("task-tags");
+        // creator and assignee are lazy references mapped by id through UserCache, so a warm
+        // listing never reads users at all
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(tags.getHitCount()).isEqualTo(second.size());
+        assertThat(tags.getMissCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldKeepTaskTagsRegionAcrossBulkStatusUpdate() {
+        List<TaskDTO> warm = taskService.listTasksByUser(SEEDED_USER_ID);
+        TaskDTO dragged = warm.get(0);
+        // re-applies the current status, so the seeded rows keep their meaning for other tests
+        taskService.updateTaskStatus(dragged.getId(), new UpdateTaskStatusDTO(dragged.getStatus()), null);
+        statistics.clear();
+
+        List<TaskDTO> listed = taskService.listTasksByUser(SEEDED_USER_ID);
+
+        // Hibernate only evicts collection regions whose elements are the bulk-updated entity;
+        // task-tags holds strings owned by Task, so a kanban drag leaves every task's tags cached
+        CacheRegionStatistics tags = statistics.getDomainDataRegionStatistics("task-tags");
+        assertThat(tags.getHitCount()).isEqualTo(listed.size());
+        assertThat(tags.getMissCount()).isZero();
+    }
+
+    @Test
+    void shouldUseRegionsConfiguredFromApplicationProperties() {
+        assertThat(statistics.getSecondLevelCacheRegionNames()).contains("task-tags").doesNotContain("users");
+    }
+}
@@ -0,0 +1,102 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TagDictionary.class)
+public class TagDictionaryTest {
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    void shouldHandOutCanonicalInstancesForRegisteredTags() {
+        List<String> first = tagDictionary.register(List.of(new String("jardim")));
+        List<String> second = tagDictionary.register(List.of(new String("jardim")));
+
+        assertThat(second.get(0)).isSameAs(first.get(0));
+        assertThat(tagDictionary.nameOf(tagDictionary.idOf("jardim"))).isSameAs(first.get(0));
+    }
+
+    @Test
+    void shouldShareTagInstancesAcrossLoadedTasks() {
+        Task first = persistTask("first", "compartilhada");
+        Task second = persistTask("second", "compartilhada");
+        entityManager.flush();
+        entityManager.clear();
+
+        String firstTag = taskRepository.findById(first.getId()).orElseThrow().getTags().get(0);
+        String secondTag = taskRepository.findById(second.getId()).orElseThrow().getTags().get(0);
+
+        assertThat(firstTag).isEqualTo("compartilhada");
+        assertThat(secondTag).isSameAs(firstTag);
+    }
+
+    @Test
+    void shouldFindTasksByExactAndPartialTag() {
+        Task task = persistTask("tagged", "Faxina");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(taskRepository.findTasksByExactTag("Faxina")).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(taskRepository.findTasksByTagsContaining("AXIN")).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(taskRepository.findTasksByExactTag("faxina")).isEmpty();
+        // looking a tag up never registers it
+        assertThat(tagDictionary.idOf("faxina")).isNull();
+    }
+
+    @Test
+    void shouldKeepTagsRegisteredInARolledBackTransactionOutOfTheDictionary() {
+        // this test's transaction rolls back, so the row inserted here never becomes visible
+        Integer id = tagDictionary.idOf(tagDictionary.register(List.of("descartada")).get(0));
+
+        assertThat(id).isNotNull();
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThat(tagDictionary.idOf("descartada")).isNull();
+    }
+
+    private Task persistTask(String title, String tag) {
+        User user = new User();
+        user.setFirstName("Tag");
+        user.setLastName("Owner");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        entityManager.persist(user);
+
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setEndDate(LocalDate.now().plusDays(1));
+        task.setCreator(user);
+        task.setAssignee(user);
+        task.setTags(new ArrayList<>(tagDictionary.register(List.of(tag))));
+        task.setPriority(Priority.LOW);
+        task.setStatus(TaskStatus.PENDING);
+        entityManager.persist(task);
+        return task;
+    }
+}
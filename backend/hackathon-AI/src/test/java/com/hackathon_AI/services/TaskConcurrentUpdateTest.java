@@ -0,0 +1,118 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.dto.request.CreateTaskDTO;
+import com.hackathon_AI.dto.request.UpdateTaskDTO;
+import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.repositories.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// real, concurrent transactions: each service call commits on its own, as requests do
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-concurrent-update",
+        "spring.jpa.show-sql=false"
+})
+public class TaskConcurrentUpdateTest {
+    private static final int THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 25;
+    private static final int SEEDED_USER_ID = 1;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void shouldNotLoseUpdatesWhenEditorsRaceOnOneTask() throws Exception {
+        TaskDTO task = createTask("0");
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // every editor reads the counter, writes counter + 1 with If-Match, and re-reads on a 412
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                while (true) {
+                    Task current = taskRepository.findById(task.getId()).orElseThrow();
+                    UpdateTaskDTO dto = new UpdateTaskDTO();
+                    dto.setDescription(String.valueOf(Integer.parseInt(current.getDescription()) + 1));
+                    try {
+                        taskService.updateTask(task.getId(), dto, current.getVersion());
+                        break;
+                    } catch (OptimisticLockingFailureException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+            }
+            return null;
+        });
+
+        int total = THREADS * INCREMENTS_PER_THREAD;
+        Task updated = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(updated.getDescription()).isEqualTo(String.valueOf(total));
+        assertThat(updated.getVersion()).isEqualTo(task.getVersion() + total);
+        // otherwise the editors never overlapped and the test proved nothing
+        assertThat(conflicts.get()).isPositive();
+    }
+
+    @Test
+    void shouldLetOneOfManyStatusUpdatesAtTheSameVersionWin() throws Exception {
+        TaskDTO task = createTask("Dragged by everyone");
+        UpdateTaskStatusDTO newStatus = new UpdateTaskStatusDTO(TaskStatus.COMPLETED);
+        AtomicInteger conflicts = new AtomicInteger();
+
+        List<Integer> versions = runConcurrently(THREADS, () -> {
+            try {
+                return taskService.updateTaskStatus(task.getId(), newStatus, task.getVersion()).getVersion();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                return null;
+            }
+        });
+
+        assertThat(versions).filteredOn(version -> version != null).containsExactly(task.getVersion() + 1);
+        assertThat(conflicts.get()).isEqualTo(THREADS - 1);
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getVersion()).isEqualTo(task.getVersion() + 1);
+    }
+
+    private TaskDTO createTask(String description) {
+        return taskService.createTask(new CreateTaskDTO("Shared card", description, LocalDate.now().plusDays(7),
+                SEEDED_USER_ID, SEEDED_USER_ID, List.of("board"), "MEDIUM", TaskStatus.PENDING));
+    }
+
+    // starts every worker at once, so they contend on the same row from the first call
+    private static <T> List<T> runConcurrently(int threads, Callable<T> worker) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>(threads);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return worker.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>(threads);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
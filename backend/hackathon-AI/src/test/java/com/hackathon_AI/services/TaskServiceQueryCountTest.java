@@ -0,0 +1,460 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.config.ModelMapperConfig;
+import com.hackathon_AI.config.TaskReadPathConfig;
+import com.hackathon_AI.config.TaskTombstoneConfig;
+import com.hackathon_AI.dto.request.BulkReassignDTO;
+import com.hackathon_AI.dto.request.BulkUpdateStatusDTO;
+import com.hackathon_AI.dto.request.CreateTaskDTO;
+import com.hackathon_AI.dto.request.UpdateTaskDTO;
+import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.BulkUpdateResultDTO;
+import com.hackathon_AI.dto.response.TaskChangesDTO;
+import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.TaskPageDTO;
+import com.hackathon_AI.dto.response.TaskStatusDTO;
+import com.hackathon_AI.index.TagIndex;
+import com.hackathon_AI.index.TaskFilterIndex;
+import com.hackathon_AI.index.TaskTextIndex;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.Task;
+import com.hackathon_AI.model.TaskStatus;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.TaskJdbcRepository;
+import com.hackathon_AI.utils.Converter;
+import com.hackathon_AI.utils.TaskMapperImpl;
+import com.hackathon_AI.utils.UserMapperImpl;
+import com.hackathon_AI.utils.SyncToken;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // statement counts here describe the query shapes, not cache hits
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@Import({TaskService.class, Converter.class, UserMapperImpl.class, TaskMapperImpl.class, ModelMapperConfig.class,
+        TagIndex.class, TagDictionary.class, UserCache.class, DataVersion.class, TaskFilterIndex.class, TaskTextIndex.class,
+        TaskJdbcRepository.class, TaskReadPathConfig.class, TaskTombstoneConfig.class})
+public class TaskServiceQueryCountTest {
+    private static final int SEEDED_USER_ID = 1;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldListAllTasksWithConstantStatementCount() {
+        persistTasks(5);
+        long smallBoard = countStatements(() -> taskService.listAllTasks());
+
+        persistTasks(50);
+        long largeBoard = countStatements(() -> taskService.listAllTasks());
+
+        assertThat(largeBoard).isEqualTo(smallBoard);
+        assertThat(largeBoard).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLoadUsersAndTagsForEveryListedTask() {
+        persistTasks(3);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TaskDTO> tasks = taskService.listAllTasks();
+
+        assertThat(tasks).isNotEmpty();
+        assertThat(tasks).allSatisfy(task -> {
+            assertThat(task.getCreator()).isNotNull();
+            assertThat(task.getAssignee()).isNotNull();
+            assertThat(task.getTags()).isNotNull();
+        });
+    }
+
+    @Test
+    void shouldWalkAllPagesWithoutGapsOrDuplicates() {
+        persistTasks(23);
+        entityManager.flush();
+        entityManager.clear();
+        int total = taskService.listAllTasks().size();
+
+        Set<Integer> seen = new HashSet<>();
+        String cursor = null;
+        do {
+            TaskPageDTO page = taskService.listTasksPage(cursor, 5);
+            page.getItems().forEach(task -> assertThat(seen.add(task.getId())).isTrue());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(total);
+    }
+
+    @Test
+    void shouldLoadEveryPageWithConstantStatementCount() {
+        persistTasks(30);
+        TaskPageDTO firstPage = taskService.listTasksPage(null, 10);
+
+        long first = countStatements(() -> taskService.listTasksPage(null, 10));
+        long later = countStatements(() -> taskService.listTasksPage(firstPage.getNextCursor(), 10));
+
+        assertThat(later).isEqualTo(first);
+        assertThat(later).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWalkTasksByUrgencyWithoutGapsOrDuplicates() {
+        persistTasks(17);
+        entityManager.flush();
+        entityManager.clear();
+        int total = taskService.listAllTasks().size();
+
+        List<TaskDTO> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageDTO page = taskService.listTasksByPriorityPage(cursor, 4);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).hasSize(total);
+        assertThat(walked).extracting(TaskDTO::getId).doesNotHaveDuplicates();
+        assertThat(walked).isSortedAccordingTo(Comparator.comparing(TaskDTO::getPriority)
+                .thenComparing(TaskDTO::getEndDate)
+                .thenComparing(TaskDTO::getId));
+    }
+
+    @Test
+    void shouldListTheSameTasksFromJdbcWithoutLoadingEntities() {
+        persistTasks(8);
+        entityManager.flush();
+        entityManager.clear();
+        List<TaskDTO> fromJpa = taskService.listAllTasks();
+
+        List<TaskDTO> fromJdbc = new ArrayList<>();
+        countStatements(() -> fromJdbc.addAll(taskJdbcRepository.findAll()));
+
+        // plain JDBC, so Hibernate neither sees the statement nor hydrates anything
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(fromJdbc)
+                .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                        .withIgnoreCollectionOrder(true)
+                        .build())
+                .containsExactlyInAnyOrderElementsOf(fromJpa);
+    }
+
+    @Test
+    void shouldListAUsersTasksFromJdbc() {
+        persistTasks(5);
+        entityManager.flush();
+        Integer assigneeId = taskService.listAllTasks().get(0).getAssignee().getId();
+
+        List<TaskDTO> tasks = taskJdbcRepository.findByAssigneeId(assigneeId);
+
+        assertThat(tasks).isNotEmpty()
+                .allSatisfy(task -> assertThat(task.getAssignee().getId()).isEqualTo(assigneeId));
+        assertThat(tasks).extracting(TaskDTO::getId)
+                .containsExactlyInAnyOrderElementsOf(taskService.listTasksByUser(assigneeId).stream().map(TaskDTO::getId).toList());
+    }
+
+    @Test
+    void shouldStreamEveryTaskOnceInASingleStatement() {
+        persistTasks(12);
+        entityManager.flush();
+        entityManager.clear();
+        int total = taskService.listAllTasks().size();
+
+        List<TaskDTO> streamed = new ArrayList<>();
+        long statements = countStatements(() -> taskService.streamAllTasks(streamed::add));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(streamed).hasSize(total);
+        assertThat(streamed).extracting(TaskDTO::getId).doesNotHaveDuplicates();
+        assertThat(streamed).filteredOn(task -> task.getTitle().equals("Task 3"))
+                .singleElement()
+                .satisfies(task -> assertThat(task.getTags()).containsExactlyInAnyOrder("tag3", "shared"));
+    }
+
+    @Test
+    // the service has to open the transaction itself, not join the test's read-write one
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldListInOneReadOnlyTransactionWithoutFlushing() {
+        // read-only over rows seeded by data.sql, so nothing needs rolling back
+        statistics.clear();
+        List<TaskDTO> all = taskService.listAllTasks();
+        List<TaskDTO> byUser = taskService.listTasksByUser(SEEDED_USER_ID);
+
+        assertThat(all).isNotEmpty();
+        assertThat(byUser).isNotEmpty();
+        assertThat(statistics.getTransactionCount()).isEqualTo(2);
+        // a read-write transaction flushes on commit even when nothing changed
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @Test
+    void shouldInsertBatchWithOneUserLookupAndBatchedInserts() {
+        persistTasks(2);
+        List<User> users = entityManager.createQuery("select u from User u", User.class).getResultList();
+        List<CreateTaskDTO> batch = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            CreateTaskDTO dto = new CreateTaskDTO();
+            dto.setTitle("Imported " + i);
+            dto.setDescription("Imported description " + i);
+            dto.setEndDate(LocalDate.now().plusDays(3));
+            dto.setCreatorId(users.get(i % users.size()).getId());
+            dto.setAssigneeId(users.get((i + 1) % users.size()).getId());
+            dto.setTags(List.of("shared"));
+            dto.setPriority("low");
+            dto.setStatus(TaskStatus.PENDING);
+            batch.add(dto);
+        }
+
+        List<TaskDTO> created = new ArrayList<>();
+        long statements = countStatements(() -> created.addAll(taskService.createTasks(batch)));
+
+        assertThat(created).hasSize(120);
+        assertThat(created).extracting(TaskDTO::getId).doesNotHaveDuplicates();
+        // a 120-row batch has to cost far fewer than one statement per task and tag row
+        assertThat(statements).isLessThan(20);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+    }
+
+    @Test
+    void shouldUpdateStatusInASingleStatement() {
+        persistTasks(3);
+        Integer taskId = taskService.listAllTasks().get(0).getId();
+        UpdateTaskStatusDTO newStatus = new UpdateTaskStatusDTO(TaskStatus.COMPLETED);
+
+        long statements = countStatements(() -> taskService.updateTaskStatus(taskId, newStatus, null));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(entityManager.find(Task.class, taskId))
+                .satisfies(task -> {
+                    assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    assertThat(task.getUpdatedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void shouldDeleteWithoutLoadingUsers() {
+        persistTasks(3);
+        Integer taskId = taskService.listAllTasks().get(0).getId();
+
+        countStatements(() -> taskService.deleteTask(taskId));
+
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(entityManager.find(Task.class, taskId)).isNull();
+    }
+
+    @Test
+    void shouldUpdateWithoutLoadingCachedUsers() {
+        persistTasks(3);
+        // the listing puts every creator and assignee in UserCache
+        TaskDTO listed = taskService.listAllTasks().get(0);
+        UpdateTaskDTO dto = new UpdateTaskDTO();
+        dto.setTitle("Renamed");
+
+        List<TaskDTO> updated = new ArrayList<>();
+        countStatements(() -> updated.add(taskService.updateTask(listed.getId(), dto, null)));
+
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(updated.get(0).getTitle()).isEqualTo("Renamed");
+        assertThat(updated.get(0).getCreator().getFirstName()).isEqualTo(listed.getCreator().getFirstName());
+        assertThat(updated.get(0).getAssignee().getId()).isEqualTo(listed.getAssignee().getId());
+    }
+
+    @Test
+    void shouldReportMissingTaskFromAffectedRowCount() {
+        UpdateTaskStatusDTO newStatus = new UpdateTaskStatusDTO(TaskStatus.COMPLETED);
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(-1, newStatus, null))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void shouldUpdateStatusOnlyAtTheExpectedVersion() {
+        persistTasks(3);
+        TaskDTO listed = taskService.listAllTasks().get(0);
+        UpdateTaskStatusDTO newStatus = new UpdateTaskStatusDTO(TaskStatus.COMPLETED);
+
+        List<TaskStatusDTO> updated = new ArrayList<>();
+        long statements = countStatements(() -> updated.add(
+                taskService.updateTaskStatus(listed.getId(), newStatus, listed.getVersion())));
+
+        // the conditional UPDATE is still the only statement, and the new version needs no read back
+        assertThat(statements).isEqualTo(1);
+        assertThat(updated.get(0).getVersion()).isEqualTo(listed.getVersion() + 1);
+        assertThatThrownBy(() -> taskService.updateTaskStatus(listed.getId(), newStatus, listed.getVersion()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> taskService.updateTaskStatus(-1, newStatus, listed.getVersion()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void shouldUpdateOnlyAtTheExpectedVersion() {
+        persistTasks(3);
+        TaskDTO listed = taskService.listAllTasks().get(0);
+        UpdateTaskDTO dto = new UpdateTaskDTO();
+        dto.setTitle("Renamed");
+
+        List<TaskDTO> updated = new ArrayList<>();
+        countStatements(() -> updated.add(taskService.updateTask(listed.getId(), dto, listed.getVersion())));
+
+        assertThat(updated.get(0).getVersion()).isEqualTo(listed.getVersion() + 1);
+        assertThat(entityManager.find(Task.class, listed.getId()).getVersion()).isEqualTo(listed.getVersion() + 1);
+        dto.setTitle("Renamed again");
+        assertThatThrownBy(() -> taskService.updateTask(listed.getId(), dto, listed.getVersion()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(entityManager.find(Task.class, listed.getId()).getTitle()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void shouldUpdateStatusInBulkWithConstantStatementCount() {
+        persistTasks(40);
+        List<Integer> ids = taskService.listAllTasks().stream().map(TaskDTO::getId).toList();
+
+        long statements = countStatements(() -> taskService.updateTasksStatus(
+                new BulkUpdateStatusDTO(ids, TaskStatus.COMPLETED)));
+
+        assertThat(statements).isEqualTo(2);
+        assertThat(taskService.listAllTasks())
+                .allSatisfy(task -> {
+                    assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+                    // bulk JPQL bumps the version itself, so clients holding the old ETag get a 412
+                    assertThat(task.getVersion()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void shouldReassignEveryTaskOfAUser() {
+        persistTasks(6);
+        entityManager.flush();
+        entityManager.clear();
+        TaskDTO sample = taskService.listAllTasks().stream()
+                .filter(task -> !task.getAssignee().getId().equals(task.getCreator().getId()))
+                .findFirst()
+                .orElseThrow();
+        Integer fromUserId = sample.getAssignee().getId();
+        Integer toUserId = sample.getCreator().getId();
+        long before = taskService.listTasksByUser(fromUserId).size();
+
+        BulkUpdateResultDTO result = taskService.reassignTasks(new BulkReassignDTO(null, fromUserId, toUserId));
+        entityManager.clear();
+
+        assertThat(result.getUpdated()).isEqualTo(before);
+        assertThat(taskService.listTasksByUser(fromUserId)).isEmpty();
+    }
+
+    @Test
+    void shouldCreateTaskWithoutLoadingCachedUsers() {
+        persistTasks(2);
+        List<User> users = entityManager.createQuery("select u from User u", User.class).getResultList();
+        CreateTaskDTO dto = new CreateTaskDTO();
+        dto.setTitle("Cached users");
+        dto.setDescription("Both users come from the cache");
+        dto.setEndDate(LocalDate.now().plusDays(3));
+        dto.setCreatorId(users.get(0).getId());
+        dto.setAssigneeId(users.get(1).getId());
+        dto.setPriority("LOW");
+        dto.setStatus(TaskStatus.PENDING);
+        taskService.createTask(dto);
+
+        List<TaskDTO> created = new ArrayList<>();
+        countStatements(() -> created.add(taskService.createTask(dto)));
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(created.get(0).getCreator().getFirstName()).isEqualTo(users.get(0).getFirstName());
+    }
+
+    @Test
+    void shouldFeedOnlyChangesAfterSyncToken() {
+        persistTasks(4);
+        entityManager.flush();
+        List<Integer> ids = taskService.listAllTasks().stream().map(TaskDTO::getId).toList();
+        String token = new SyncToken(LocalDateTime.now()).encode();
+
+        taskService.updateTaskStatus(ids.get(0), new UpdateTaskStatusDTO(TaskStatus.COMPLETED), null);
+        taskService.deleteTask(ids.get(1));
+        List<TaskChangesDTO> changes = new ArrayList<>();
+        long statements = countStatements(() -> changes.add(taskService.listTaskChanges(token)));
+
+        // one query for changed rows with their users and tags, one for tombstones
+        assertThat(statements).isEqualTo(2);
+        assertThat(changes.get(0).getChanged()).extracting(TaskDTO::getId).containsExactly(ids.get(0));
+        assertThat(changes.get(0).getDeleted()).containsExactly(ids.get(1));
+        assertThat(changes.get(0).getNextToken()).isNotNull();
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistTasks(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setFirstName("User" + i);
+            user.setLastName("Test");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            entityManager.persist(user);
+            users.add(user);
+        }
+
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Description " + i);
+            task.setEndDate(LocalDate.now().plusDays(1 + i % 4));
+            task.setCreator(users.get(i));
+            task.setAssignee(users.get((i + 1) % count));
+            task.setTags(new ArrayList<>(tagDictionary.register(List.of("tag" + i, "shared"))));
+            task.setPriority(Priority.values()[i % 3]);
+            task.setStatus(TaskStatus.PENDING);
+            entityManager.persist(task);
+        }
+    }
+}
@@ -1,16 +1,39 @@
 package com.hackathon_AI.services;
 
+import com.hackathon_AI.config.TaskReadPathProperties;
+import com.hackathon_AI.config.TaskReadPathProperties.ReadPath;
+import com.hackathon_AI.config.TaskTombstoneProperties;
+import com.hackathon_AI.dto.request.BulkReassignDTO;
+import com.hackathon_AI.dto.request.BulkUpdateStatusDTO;
 import com.hackathon_AI.dto.request.CreateTaskDTO;
 import com.hackathon_AI.dto.request.UpdateTaskDTO;
 import com.hackathon_AI.dto.request.UpdateTaskStatusDTO;
+import com.hackathon_AI.dto.response.BulkUpdateResultDTO;
+import com.hackathon_AI.dto.response.TaskChangesDTO;
 import com.hackathon_AI.dto.response.TaskDTO;
+import com.hackathon_AI.dto.response.TaskPageDTO;
+import com.hackathon_AI.dto.response.TaskStatusDTO;
 import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.events.TaskDeletedEvent;
+import com.hackathon_AI.events.TaskSavedEvent;
+import com.hackathon_AI.events.TaskStatusChangedEvent;
+import com.hackathon_AI.events.TasksReassignedEvent;
+import com.hackathon_AI.index.TagIndex;
+import com.hackathon_AI.index.TaskFilter;
+import com.hackathon_AI.index.TaskFilterIndex;
+import com.hackathon_AI.index.TaskTextIndex;
+import com.hackathon_AI.model.Priority;
 import com.hackathon_AI.model.Task;
 import com.hackathon_AI.model.TaskStatus;
 import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.TaskJdbcRepository;
 import com.hackathon_AI.repositories.TaskRepository;
+import com.hackathon_AI.repositories.TaskTombstoneRepository;
 import com.hackathon_AI.repositories.UserRepository;
 import com.hackathon_AI.utils.Converter;
+import com.hackathon_AI.utils.SyncToken;
+import com.hackathon_AI.utils.TaskCursor;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,17 +41,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,12 +71,48 @@ public class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private TaskTombstoneRepository taskTombstoneRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private Converter converter;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TagIndex tagIndex;
+
+    @Mock
+    private TaskFilterIndex taskFilterIndex;
+
+    @Mock
+    private TaskTextIndex taskTextIndex;
+
+    @Mock
+    private TagDictionary tagDictionary;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private TaskReadPathProperties readPath;
+
+    @Mock
+    private TaskTombstoneProperties tombstones;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -73,7 +143,7 @@ public class TaskServiceTest {
         task.setCreator(creatorUser);
         task.setAssignee(assigneeUser);
         task.setEndDate(LocalDate.now().plusDays(7));
-        task.setPriority("HIGH");
+        task.setPriority(Priority.HIGH);
         task.setStatus(TaskStatus.PENDING);
         task.setTags(Arrays.asList("tag1", "tag2"));
         task.setCreatedAt(LocalDateTime.now());
@@ -120,8 +190,11 @@ public class TaskServiceTest {
 
     @Test
     void shouldCreateTaskSuccessfully() {
-        when(userRepository.findById(creatorUser.getId())).thenReturn(Optional.of(creatorUser));
-        when(userRepository.findById(assigneeUser.getId())).thenReturn(Optional.of(assigneeUser));
+        when(tagDictionary.register(createTaskDTO.getTags())).thenReturn(createTaskDTO.getTags());
+        when(userCache.exists(creatorUser.getId())).thenReturn(true);
+        when(userCache.exists(assigneeUser.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(creatorUser.getId())).thenReturn(creatorUser);
+        when(userRepository.getReferenceById(assigneeUser.getId())).thenReturn(assigneeUser);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(converter.toTaskResponseDTO(any(Task.class))).thenReturn(taskDTO);
 
@@ -133,43 +206,89 @@ public class TaskServiceTest {
         assertEquals(taskDTO.getAssignee().getId(), result.getAssignee().getId());
         assertEquals(taskDTO.getPriority(), result.getPriority());
 
-        verify(userRepository, times(1)).findById(creatorUser.getId());
-        verify(userRepository, times(1)).findById(assigneeUser.getId());
+        verify(userCache, times(1)).exists(creatorUser.getId());
+        verify(userCache, times(1)).exists(assigneeUser.getId());
+        verify(userRepository, never()).findById(anyInt());
         verify(taskRepository, times(1)).save(any(Task.class));
         verify(converter, times(1)).toTaskResponseDTO(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskSavedEvent.class));
+        verify(dataVersion, times(1)).bump();
     }
 
     @Test
     void shouldThrowEntityNotFoundExceptionWhenCreatorNotFoundOnCreate() {
-        when(userRepository.findById(creatorUser.getId())).thenReturn(Optional.empty());
+        when(userCache.exists(creatorUser.getId())).thenReturn(false);
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () -> {
             taskService.createTask(createTaskDTO);
         });
 
         assertEquals("Creator not found", thrown.getMessage());
-        verify(userRepository, times(1)).findById(creatorUser.getId());
-        verify(userRepository, never()).findById(assigneeUser.getId());
+        verify(userCache, times(1)).exists(creatorUser.getId());
+        verify(userCache, never()).exists(assigneeUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
         verify(converter, never()).toTaskResponseDTO(any(Task.class));
     }
 
     @Test
     void shouldThrowEntityNotFoundExceptionWhenAssigneeNotFoundOnCreate() {
-        when(userRepository.findById(creatorUser.getId())).thenReturn(Optional.of(creatorUser));
-        when(userRepository.findById(assigneeUser.getId())).thenReturn(Optional.empty());
+        when(userCache.exists(creatorUser.getId())).thenReturn(true);
+        when(userCache.exists(assigneeUser.getId())).thenReturn(false);
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () -> {
             taskService.createTask(createTaskDTO);
         });
 
         assertEquals("Assignee not found", thrown.getMessage());
-        verify(userRepository, times(1)).findById(creatorUser.getId());
-        verify(userRepository, times(1)).findById(assigneeUser.getId());
+        verify(userCache, times(1)).exists(creatorUser.getId());
+        verify(userCache, times(1)).exists(assigneeUser.getId());
         verify(taskRepository, never()).save(any(Task.class));
         verify(converter, never()).toTaskResponseDTO(any(Task.class));
     }
 
+    @Test
+    void shouldCreateTasksInBatchWithSingleUserLookup() {
+        when(userCache.findAll(Set.of(creatorUser.getId(), assigneeUser.getId())))
+                .thenReturn(Map.of(creatorUser.getId(), taskDTO.getCreator(), assigneeUser.getId(), taskDTO.getAssignee()));
+        when(tagDictionary.register(createTaskDTO.getTags())).thenReturn(createTaskDTO.getTags());
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(converter.toTaskResponseDTO(any(Task.class))).thenReturn(taskDTO);
+
+        List<TaskDTO> result = taskService.createTasks(Collections.nCopies(120, createTaskDTO));
+
+        assertEquals(120, result.size());
+        verify(userCache, times(1)).findAll(anySet());
+        verify(userRepository, never()).findById(anyInt());
+        verify(taskRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(eventPublisher, times(120)).publishEvent(any(TaskSavedEvent.class));
+    }
+
+    @Test
+    void shouldRejectBatchWhenAnyUserIsMissing() {
+        when(userCache.findAll(anySet())).thenReturn(Map.of(creatorUser.getId(), taskDTO.getCreator()));
+
+        EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class,
+                () -> taskService.createTasks(List.of(createTaskDTO)));
+
+        assertEquals("Assignee not found", thrown.getMessage());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldCreateNothingForAnEmptyBatch() {
+        assertTrue(taskService.createTasks(List.of()).isEmpty());
+        verifyNoInteractions(userCache, taskRepository, dataVersion);
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        List<CreateTaskDTO> tasks = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, createTaskDTO);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(tasks));
+        verifyNoInteractions(userCache, taskRepository);
+    }
+
     @Test
     void shouldUpdateTaskSuccessfully() {
         UpdateTaskDTO updateDto = new UpdateTaskDTO();
@@ -178,6 +297,7 @@ public class TaskServiceTest {
         updateDto.setEndDate(LocalDate.now().plusDays(15));
         updateDto.setTags(Collections.singletonList("updatedTag"));
         updateDto.setPriority("LOW");
+        when(tagDictionary.register(updateDto.getTags())).thenReturn(updateDto.getTags());
 
         TaskDTO expectedTaskDTO = TaskDTO.builder()
                 .id(task.getId())
@@ -187,7 +307,7 @@ public class TaskServiceTest {
                 .creator(taskDTO.getCreator())
                 .assignee(taskDTO.getAssignee())
                 .tags(Collections.singletonList("updatedTag"))
-                .priority("LOW")
+                .priority(Priority.LOW)
                 .status(task.getStatus())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
@@ -197,7 +317,7 @@ public class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(converter.toTaskResponseDTO(any(Task.class))).thenReturn(expectedTaskDTO);
 
-        TaskDTO result = taskService.updateTask(task.getId(), updateDto);
+        TaskDTO result = taskService.updateTask(task.getId(), updateDto, null);
 
         assertNotNull(result);
         assertEquals(expectedTaskDTO.getTitle(), result.getTitle());
@@ -209,6 +329,7 @@ public class TaskServiceTest {
         verify(taskRepository, times(1)).findById(task.getId());
         verify(taskRepository, times(1)).save(task);
         verify(converter, times(1)).toTaskResponseDTO(task);
+        assertEquals(updateDto.getTags(), task.getTags());
     }
 
     @Test
@@ -235,7 +356,7 @@ public class TaskServiceTest {
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(converter.toTaskResponseDTO(any(Task.class))).thenReturn(expectedTaskDTO);
 
-        TaskDTO result = taskService.updateTask(task.getId(), updateDto);
+        TaskDTO result = taskService.updateTask(task.getId(), updateDto, null);
 
         assertNotNull(result);
         assertEquals(expectedTaskDTO.getTitle(), result.getTitle());
@@ -255,7 +376,7 @@ public class TaskServiceTest {
         when(taskRepository.findById(anyInt())).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () -> {
-            taskService.updateTask(999, updateDto);
+            taskService.updateTask(999, updateDto, null);
         });
 
         assertEquals("Task not found", thrown.getMessage());
@@ -269,31 +390,19 @@ public class TaskServiceTest {
         UpdateTaskStatusDTO updateStatusDto = new UpdateTaskStatusDTO();
         updateStatusDto.setStatus(TaskStatus.COMPLETED);
 
-        TaskDTO expectedTaskDTO = TaskDTO.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .endDate(task.getEndDate())
-                .creator(taskDTO.getCreator())
-                .assignee(taskDTO.getAssignee())
-                .tags(task.getTags())
-                .priority(task.getPriority())
-                .status(TaskStatus.COMPLETED)
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .build();
-
-        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
-        when(converter.toTaskResponseDTO(any(Task.class))).thenReturn(expectedTaskDTO);
+        when(taskRepository.updateStatus(eq(task.getId()), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(1);
 
-        TaskDTO result = taskService.updateTaskStatus(task.getId(), updateStatusDto);
+        TaskStatusDTO result = taskService.updateTaskStatus(task.getId(), updateStatusDto, null);
 
         assertNotNull(result);
+        assertEquals(task.getId(), result.getId());
         assertEquals(TaskStatus.COMPLETED, result.getStatus());
-        verify(taskRepository, times(1)).findById(task.getId());
-        verify(taskRepository, times(1)).save(task);
-        verify(converter, times(1)).toTaskResponseDTO(task);
+        assertNotNull(result.getUpdatedAt());
+        verify(taskRepository, never()).findById(anyInt());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(converter, never()).toTaskResponseDTO(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskStatusChangedEvent.class));
+        verify(dataVersion, times(1)).bump();
     }
 
     @Test
@@ -301,16 +410,80 @@ public class TaskServiceTest {
         UpdateTaskStatusDTO updateStatusDto = new UpdateTaskStatusDTO();
         updateStatusDto.setStatus(TaskStatus.COMPLETED);
 
-        when(taskRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(taskRepository.updateStatus(eq(999), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(0);
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () -> {
-            taskService.updateTaskStatus(999, updateStatusDto);
+            taskService.updateTaskStatus(999, updateStatusDto, null);
         });
 
         assertEquals("Task not found", thrown.getMessage());
-        verify(taskRepository, times(1)).findById(999);
         verify(taskRepository, never()).save(any(Task.class));
-        verify(converter, never()).toTaskResponseDTO(any(Task.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        verifyNoInteractions(dataVersion);
+    }
+
+    @Test
+    void shouldUpdateStatusOfExistingTasksInBulk() {
+        when(taskRepository.findIdsByIdIn(List.of(1, 2, 3))).thenReturn(List.of(1, 2));
+        when(taskRepository.updateStatusByIdIn(eq(List.of(1, 2)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        BulkUpdateResultDTO result = taskService.updateTasksStatus(
+                new BulkUpdateStatusDTO(List.of(1, 2, 3, 2), TaskStatus.COMPLETED));
+
+        assertEquals(2, result.getUpdated());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskStatusChangedEvent.class));
+    }
+
+    @Test
+    void shouldReassignTasksByIds() {
+        when(userCache.exists(assigneeUser.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(assigneeUser.getId())).thenReturn(assigneeUser);
+        when(taskRepository.findIdsByIdIn(List.of(1, 2))).thenReturn(List.of(1, 2));
+        when(taskRepository.updateAssigneeByIdIn(eq(List.of(1, 2)), eq(assigneeUser), any(LocalDateTime.class)))
+                .thenReturn(2);
+
+        BulkUpdateResultDTO result = taskService.reassignTasks(
+                new BulkReassignDTO(List.of(1, 2), null, assigneeUser.getId()));
+
+        assertEquals(2, result.getUpdated());
+        verify(taskRepository, never()).findIdsByAssigneeId(anyInt());
+        verify(eventPublisher, times(1)).publishEvent(any(TasksReassignedEvent.class));
+    }
+
+    @Test
+    void shouldReassignAllTasksOfAUser() {
+        when(userCache.exists(assigneeUser.getId())).thenReturn(true);
+        when(userRepository.getReferenceById(assigneeUser.getId())).thenReturn(assigneeUser);
+        when(taskRepository.findIdsByAssigneeId(creatorUser.getId())).thenReturn(List.of(4, 5, 6));
+        when(taskRepository.updateAssigneeByIdIn(eq(List.of(4, 5, 6)), eq(assigneeUser), any(LocalDateTime.class)))
+                .thenReturn(3);
+
+        BulkUpdateResultDTO result = taskService.reassignTasks(
+                new BulkReassignDTO(null, creatorUser.getId(), assigneeUser.getId()));
+
+        assertEquals(3, result.getUpdated());
+    }
+
+    @Test
+    void shouldRejectReassignWithoutExactlyOneSelector() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.reassignTasks(new BulkReassignDTO(null, null, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.reassignTasks(new BulkReassignDTO(List.of(1), 1, 2)));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldThrowEntityNotFoundExceptionWhenReassignTargetNotFound() {
+        when(userCache.exists(99)).thenReturn(false);
+
+        EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class,
+                () -> taskService.reassignTasks(new BulkReassignDTO(List.of(1), null, 99)));
+
+        assertEquals("Assignee not found", thrown.getMessage());
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -321,6 +494,9 @@ public class TaskServiceTest {
         assertDoesNotThrow(() -> taskService.deleteTask(task.getId()));
         verify(taskRepository, times(1)).existsById(task.getId());
         verify(taskRepository, times(1)).deleteById(task.getId());
+        verify(taskTombstoneRepository, times(1)).save(argThat(tombstone -> tombstone.getTaskId().equals(task.getId())));
+        verify(eventPublisher, times(1)).publishEvent(new TaskDeletedEvent(task.getId()));
+        verify(dataVersion, times(1)).bump();
     }
 
     @Test
@@ -334,6 +510,7 @@ public class TaskServiceTest {
         assertEquals("Task not found", thrown.getMessage());
         verify(taskRepository, times(1)).existsById(999);
         verify(taskRepository, never()).deleteById(any(Integer.class));
+        verifyNoInteractions(taskTombstoneRepository, eventPublisher, dataVersion);
     }
 
     @Test
@@ -375,7 +552,8 @@ public class TaskServiceTest {
         List<TaskDTO> taggedTaskDTOs = Collections.singletonList(taskDTO);
         String tag = "tag1";
 
-        when(taskRepository.findTasksByTagsContaining(tag)).thenReturn(taggedTasks);
+        when(tagIndex.findTaskIds(tag)).thenReturn(Set.of(task.getId()));
+        when(taskRepository.findAllWithUsersAndTagsByIdIn(List.of(task.getId()))).thenReturn(taggedTasks);
         when(converter.toTaskResponseDTOList(taggedTasks)).thenReturn(taggedTaskDTOs);
 
         List<TaskDTO> result = taskService.searchTasksByTag(tag);
@@ -383,7 +561,8 @@ public class TaskServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(taggedTaskDTOs, result);
-        verify(taskRepository, times(1)).findTasksByTagsContaining(tag);
+        verify(tagIndex, times(1)).findTaskIds(tag);
+        verify(taskRepository, times(1)).findAllWithUsersAndTagsByIdIn(List.of(task.getId()));
         verify(converter, times(1)).toTaskResponseDTOList(taggedTasks);
     }
 
@@ -393,17 +572,96 @@ public class TaskServiceTest {
         List<TaskDTO> emptyTaskDTOList = Collections.emptyList();
         String tag = "nonexistentTag";
 
-        when(taskRepository.findTasksByTagsContaining(tag)).thenReturn(emptyTaskList);
+        when(tagIndex.findTaskIds(tag)).thenReturn(Set.of());
         when(converter.toTaskResponseDTOList(emptyTaskList)).thenReturn(emptyTaskDTOList);
 
         List<TaskDTO> result = taskService.searchTasksByTag(tag);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(taskRepository, times(1)).findTasksByTagsContaining(tag);
+        verify(tagIndex, times(1)).findTaskIds(tag);
+        verifyNoInteractions(taskRepository);
         verify(converter, times(1)).toTaskResponseDTOList(emptyTaskList);
     }
 
+    @Test
+    void shouldListEveryTaskAsChangedWithoutSyncToken() {
+        List<Task> tasks = List.of(task);
+        when(taskRepository.findAllWithUsersAndTags()).thenReturn(tasks);
+        when(converter.toTaskResponseDTOList(tasks)).thenReturn(List.of(taskDTO));
+
+        TaskChangesDTO result = taskService.listTaskChanges(null);
+
+        assertEquals(List.of(taskDTO), result.getChanged());
+        assertTrue(result.getDeleted().isEmpty());
+        assertNotNull(result.getNextToken());
+        assertTrue(result.isResync());
+        verifyNoInteractions(taskTombstoneRepository);
+    }
+
+    @Test
+    void shouldListOnlyTasksChangedAfterSyncToken() {
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        when(tombstones.retention()).thenReturn(Duration.ofDays(7));
+        List<Task> tasks = List.of(task);
+        when(taskRepository.findAllWithUsersAndTagsUpdatedAfter(since)).thenReturn(tasks);
+        when(converter.toTaskResponseDTOList(tasks)).thenReturn(List.of(taskDTO));
+        when(taskTombstoneRepository.findTaskIdsDeletedAfter(since)).thenReturn(List.of(7));
+
+        TaskChangesDTO result = taskService.listTaskChanges(new SyncToken(since).encode());
+
+        assertEquals(List.of(taskDTO), result.getChanged());
+        assertEquals(List.of(7), result.getDeleted());
+        assertTrue(SyncToken.decode(result.getNextToken()).since().isAfter(since));
+        assertFalse(result.isResync());
+        verify(taskRepository, never()).findAllWithUsersAndTags();
+    }
+
+    @Test
+    void shouldResyncEveryTaskWhenSyncTokenIsOlderThanTombstoneRetention() {
+        LocalDateTime since = LocalDateTime.now().minusDays(8);
+        when(tombstones.retention()).thenReturn(Duration.ofDays(7));
+        List<Task> tasks = List.of(task);
+        when(taskRepository.findAllWithUsersAndTags()).thenReturn(tasks);
+        when(converter.toTaskResponseDTOList(tasks)).thenReturn(List.of(taskDTO));
+
+        TaskChangesDTO result = taskService.listTaskChanges(new SyncToken(since).encode());
+
+        assertEquals(List.of(taskDTO), result.getChanged());
+        assertTrue(result.getDeleted().isEmpty());
+        assertTrue(result.isResync());
+        verify(taskRepository, never()).findAllWithUsersAndTagsUpdatedAfter(any());
+        verifyNoInteractions(taskTombstoneRepository);
+    }
+
+    @Test
+    void shouldRejectMalformedSyncToken() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.listTaskChanges("bm90LWEtZGF0ZQ"));
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    @Test
+    void shouldListTasksByUserFromJdbcWhenConfigured() {
+        when(readPath.byUser()).thenReturn(ReadPath.JDBC);
+        when(taskJdbcRepository.findByAssigneeId(assigneeUser.getId())).thenReturn(List.of(taskDTO));
+
+        List<TaskDTO> result = taskService.listTasksByUser(assigneeUser.getId());
+
+        assertEquals(List.of(taskDTO), result);
+        verifyNoInteractions(taskRepository, converter);
+    }
+
+    @Test
+    void shouldListAllTasksFromJdbcWhenConfigured() {
+        when(readPath.all()).thenReturn(ReadPath.JDBC);
+        when(taskJdbcRepository.findAll()).thenReturn(List.of(taskDTO));
+
+        List<TaskDTO> result = taskService.listAllTasks();
+
+        assertEquals(List.of(taskDTO), result);
+        verifyNoInteractions(taskRepository, converter);
+    }
+
     @Test
     void shouldListAllTasksSuccessfully() {
         User anotherCreator = new User();
@@ -424,7 +682,7 @@ public class TaskServiceTest {
         anotherTask.setCreator(anotherCreator);
         anotherTask.setAssignee(anotherAssignee);
         anotherTask.setStatus(TaskStatus.IN_PROGRESS);
-        anotherTask.setPriority("MEDIUM");
+        anotherTask.setPriority(Priority.MEDIUM);
         anotherTask.setCreatedAt(LocalDateTime.now());
         anotherTask.setUpdatedAt(LocalDateTime.now());
         anotherTask.setEndDate(LocalDate.now().plusDays(30));
@@ -463,7 +721,7 @@ public class TaskServiceTest {
 
         List<TaskDTO> allTaskDTOs = Arrays.asList(taskDTO, anotherTaskDTO);
 
-        when(taskRepository.findAll()).thenReturn(allTasks);
+        when(taskRepository.findAllWithUsersAndTags()).thenReturn(allTasks);
         when(converter.toTaskResponseDTOList(allTasks)).thenReturn(allTaskDTOs);
 
         List<TaskDTO> result = taskService.listAllTasks();
@@ -471,7 +729,7 @@ public class TaskServiceTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(allTaskDTOs, result);
-        verify(taskRepository, times(1)).findAll();
+        verify(taskRepository, times(1)).findAllWithUsersAndTags();
         verify(converter, times(1)).toTaskResponseDTOList(allTasks);
     }
 
@@ -480,14 +738,136 @@ public class TaskServiceTest {
         List<Task> emptyTaskList = Collections.emptyList();
         List<TaskDTO> emptyTaskDTOList = Collections.emptyList();
 
-        when(taskRepository.findAll()).thenReturn(emptyTaskList);
+        when(taskRepository.findAllWithUsersAndTags()).thenReturn(emptyTaskList);
         when(converter.toTaskResponseDTOList(emptyTaskList)).thenReturn(emptyTaskDTOList);
 
         List<TaskDTO> result = taskService.listAllTasks();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(taskRepository, times(1)).findAll();
+        verify(taskRepository, times(1)).findAllWithUsersAndTags();
         verify(converter, times(1)).toTaskResponseDTOList(emptyTaskList);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnNextCursorWhenMoreTasksExist() {
+        Task secondTask = new Task();
+        secondTask.setId(2);
+        secondTask.setCreatedAt(task.getCreatedAt().plusMinutes(1));
+
+        when(taskRepository.findFirstPage(Limit.of(2))).thenReturn(Arrays.asList(task, secondTask));
+        when(converter.toTaskResponseDTOList(List.of(task))).thenReturn(List.of(taskDTO));
+
+        TaskPageDTO result = taskService.listTasksPage(null, 1);
+
+        assertEquals(List.of(taskDTO), result.getItems());
+        assertEquals(TaskCursor.of(task).encode(), result.getNextCursor());
+    }
+
+    @Test
+    void shouldSeekPastCursorOnLastPage() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2025, 6, 1, 10, 0), 7);
+
+        when(taskRepository.findPageAfter(cursor.createdAt(), cursor.id(), Limit.of(11))).thenReturn(List.of(task));
+        when(converter.toTaskResponseDTOList(List.of(task))).thenReturn(List.of(taskDTO));
+
+        TaskPageDTO result = taskService.listTasksPage(cursor.encode(), 10);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        verify(taskRepository, never()).findFirstPage(any(Limit.class));
+    }
+
+    @Test
+    void shouldLoadOnlyTheFilteredPageInIdOrder() {
+        TaskFilter filter = TaskFilter.of(List.of(TaskStatus.PENDING), List.of("high"), null);
+        Task secondTask = new Task();
+        secondTask.setId(task.getId() + 1);
+        List<Integer> pageIds = List.of(task.getId(), secondTask.getId());
+        when(taskFilterIndex.findPage(filter, 3, 3)).thenReturn(List.of(task.getId(), secondTask.getId(), 99));
+        when(taskRepository.findAllWithUsersAndTagsByIdIn(pageIds)).thenReturn(List.of(secondTask, task));
+        when(converter.toTaskResponseDTOList(List.of(task, secondTask))).thenReturn(List.of(taskDTO));
+
+        TaskPageDTO result = taskService.filterTasks(filter, "3", 2);
+
+        assertEquals(List.of(taskDTO), result.getItems());
+        assertEquals(String.valueOf(secondTask.getId()), result.getNextCursor());
+        verify(taskRepository, never()).findAllWithUsersAndTags();
+    }
+
+    @Test
+    void shouldNotQueryWhenNoTaskMatchesFilter() {
+        TaskFilter filter = TaskFilter.of(null, null, List.of(42));
+        when(taskFilterIndex.findPage(filter, null, 11)).thenReturn(List.of());
+        when(converter.toTaskResponseDTOList(List.of())).thenReturn(List.of());
+
+        TaskPageDTO result = taskService.filterTasks(filter, null, 10);
+
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldReturnTextMatchesInRankOrder() {
+        Task secondTask = new Task();
+        secondTask.setId(task.getId() + 1);
+        List<Integer> rankedIds = List.of(secondTask.getId(), task.getId());
+        when(taskTextIndex.search("revisao", 20)).thenReturn(rankedIds);
+        when(taskRepository.findAllWithUsersAndTagsByIdIn(rankedIds)).thenReturn(List.of(task, secondTask));
+        when(converter.toTaskResponseDTOList(List.of(secondTask, task))).thenReturn(List.of(taskDTO));
+
+        List<TaskDTO> result = taskService.searchTasksByText("revisao", 20);
+
+        assertEquals(List.of(taskDTO), result);
+    }
+
+    @Test
+    void shouldNotQueryWhenNoTaskMatchesText() {
+        when(taskTextIndex.search("nada", 20)).thenReturn(List.of());
+
+        assertTrue(taskService.searchTasksByText("nada", 20).isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldRejectTextSearchLimitAboveMaximum() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasksByText("revisao", 101));
+        verifyNoInteractions(taskTextIndex);
+    }
+
+    @Test
+    void shouldPageTasksByUser() {
+        when(taskRepository.findFirstPageByAssigneeId(assigneeUser.getId(), Limit.of(6))).thenReturn(List.of(task));
+        when(converter.toTaskResponseDTOList(List.of(task))).thenReturn(List.of(taskDTO));
+
+        TaskPageDTO result = taskService.listTasksByUserPage(assigneeUser.getId(), null, 5);
+
+        assertEquals(List.of(taskDTO), result.getItems());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void shouldRejectInvalidPageLimit() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.listTasksPage(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskService.listTasksPage(null, TaskService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.listTasksPage("not-a-cursor", 10));
+    }
+
+    @Test
+    void shouldStreamTasksAndDetachEachOne() {
+        when(taskRepository.streamAllWithUsersAndTags()).thenReturn(Stream.of(task));
+        when(converter.toTaskResponseDTO(task)).thenReturn(taskDTO);
+        List<TaskDTO> streamed = new ArrayList<>();
+
+        taskService.streamAllTasks(streamed::add);
+
+        assertEquals(List.of(taskDTO), streamed);
+        verify(entityManager, times(1)).detach(task);
+    }
+}
@@ -0,0 +1,81 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.dto.response.TaskStatsDTO;
+import com.hackathon_AI.events.TaskSnapshot;
+import com.hackathon_AI.index.TagIndex;
+import com.hackathon_AI.index.TaskFilterIndex;
+import com.hackathon_AI.index.TaskTextIndex;
+import com.hackathon_AI.index.TaskIndexSynchronizer;
+import com.hackathon_AI.index.TaskStatsIndex;
+import com.hackathon_AI.model.Priority;
+import com.hackathon_AI.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TaskStatsService.class, TaskStatsIndex.class, TaskIndexSynchronizer.class, TagIndex.class,
+        TaskFilterIndex.class, TaskTextIndex.class, TagDictionary.class})
+public class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskStatsIndex taskStatsIndex;
+
+    @Autowired
+    private TaskIndexSynchronizer taskIndexSynchronizer;
+
+    @Autowired
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskIndexSynchronizer.rebuild();
+    }
+
+    @Test
+    void shouldServeTheSameCountsAsARecount() {
+        TaskStatsDTO counters = taskStatsService.getStats();
+
+        assertThat(taskStatsService.reconcile()).isEqualTo(counters);
+        // data.sql seeds ten tasks
+        assertThat(counters.getTotal()).isEqualTo(10);
+        assertThat(counters.getByStatus().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldRebuildCountersThatDrifted() {
+        TaskStatsDTO expected = taskStatsService.getStats();
+        taskStatsIndex.index(new TaskSnapshot(-1, "Drift", null, List.of(), TaskStatus.REVIEW, Priority.LOW, null,
+                LocalDate.now(), null));
+        taskStatsIndex.remove(1);
+
+        TaskStatsDTO reconciled = taskStatsService.reconcile();
+
+        assertThat(reconciled).isEqualTo(expected);
+        assertThat(taskStatsService.getStats()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldLeaveTheOtherIndexesAloneWhenReconciling() {
+        // data.sql tags tasks with "trabalho", so the tag index knows them from the startup rebuild
+        Set<Integer> tagged = tagIndex.findTaskIds("trab");
+        int indexed = tagIndex.size();
+
+        taskStatsService.reconcile();
+
+        assertThat(tagged).isNotEmpty();
+        assertThat(tagIndex.findTaskIds("trab")).isEqualTo(tagged);
+        assertThat(tagIndex.size()).isEqualTo(indexed);
+    }
+}
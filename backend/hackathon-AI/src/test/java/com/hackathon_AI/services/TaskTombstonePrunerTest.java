@@ -0,0 +1,34 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.config.TaskTombstoneConfig;
+import com.hackathon_AI.model.TaskTombstone;
+import com.hackathon_AI.repositories.TaskTombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "app.tasks.tombstones.retention=7d")
+@Import({TaskTombstonePruner.class, TaskTombstoneConfig.class})
+public class TaskTombstonePrunerTest {
+
+    @Autowired
+    private TaskTombstonePruner taskTombstonePruner;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Test
+    void shouldPruneOnlyTombstonesOlderThanRetention() {
+        taskTombstoneRepository.save(new TaskTombstone(1001, LocalDateTime.now().minusDays(8)));
+        taskTombstoneRepository.save(new TaskTombstone(1002, LocalDateTime.now().minusDays(6)));
+        taskTombstoneRepository.flush();
+
+        assertThat(taskTombstonePruner.prune()).isEqualTo(1);
+        assertThat(taskTombstoneRepository.findAll()).extracting(TaskTombstone::getTaskId).containsExactly(1002);
+    }
+}
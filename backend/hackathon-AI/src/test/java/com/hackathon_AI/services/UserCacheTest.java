@@ -0,0 +1,104 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.User;
+import com.hackathon_AI.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private UserCache userCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, 100, meterRegistry);
+
+        user = new User();
+        user.setId(1);
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+    }
+
+    @Test
+    void shouldLoadUserOnceAndServeRepeatedLookupsFromCache() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+
+        UserDTO first = userCache.find(1).orElseThrow();
+        UserDTO second = userCache.find(1).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getFirstName()).isEqualTo("John");
+        verify(userRepository, times(1)).findById(1);
+        assertThat(userCache.stats().hitCount()).isEqualTo(1);
+        assertThat(userCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheMissingUsers() {
+        when(userRepository.findById(anyInt())).thenReturn(Optional.empty());
+
+        assertThat(userCache.exists(99)).isFalse();
+        assertThat(userCache.exists(99)).isFalse();
+
+        verify(userRepository, times(2)).findById(99);
+    }
+
+    @Test
+    void shouldLoadOnlyMissingIdsInBulk() {
+        User other = new User(2, "Jane", "Smith", LocalDate.of(1992, 2, 2), null);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        when(userRepository.findAllById(Set.of(2, 3))).thenReturn(List.of(other));
+        userCache.find(1);
+
+        Map<Integer, UserDTO> found = userCache.findAll(List.of(1, 2, 3));
+
+        assertThat(found).containsOnlyKeys(1, 2);
+        verify(userRepository, times(1)).findAllById(Set.of(2, 3));
+    }
+
+    @Test
+    void shouldShareOneDTOPerUserWhenConvertingLoadedEntities() {
+        UserDTO first = userCache.toDTO(user);
+        UserDTO second = userCache.toDTO(user);
+
+        assertThat(second).isSameAs(first);
+        assertThat(userCache.toDTO(null)).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldReloadAfterInvalidation() {
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+        userCache.find(1);
+
+        userCache.invalidate(1);
+        userCache.find(1);
+
+        verify(userRepository, times(2)).findById(1);
+    }
+}
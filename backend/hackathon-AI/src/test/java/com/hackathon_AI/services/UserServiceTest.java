@@ -2,6 +2,8 @@ package com.hackathon_AI.services;
 
 import com.hackathon_AI.dto.request.CreateUserDTO;
 import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.events.UserCreatedEvent;
+import com.hackathon_AI.index.UserNameIndex;
 import com.hackathon_AI.model.User;
 import com.hackathon_AI.repositories.UserRepository;
 import com.hackathon_AI.utils.Converter;
@@ -11,11 +13,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +33,18 @@ public class UserServiceTest {
     @Mock
     private Converter converter;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private DataVersion dataVersion;
+
+    @Mock
+    private UserNameIndex userNameIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -59,9 +75,9 @@ public class UserServiceTest {
 
     @Test
     void shouldCreateUserSuccessfully() {
-        when(converter.convertObject(createUserDTO, User.class)).thenReturn(userEntity);
+        when(converter.toUser(createUserDTO)).thenReturn(userEntity);
         when(userRepository.save(userEntity)).thenReturn(userEntity);
-        when(converter.convertObject(userEntity, UserDTO.class)).thenReturn(userDTO);
+        when(converter.toUserDTO(userEntity)).thenReturn(userDTO);
 
         UserDTO result = userService.createUser(createUserDTO);
 
@@ -71,9 +87,20 @@ public class UserServiceTest {
         assertEquals(userDTO.getLastName(), result.getLastName());
         assertEquals(userDTO.getBirthDate(), result.getBirthDate());
 
-        verify(converter, times(1)).convertObject(createUserDTO, User.class);
+        verify(converter, times(1)).toUser(createUserDTO);
         verify(userRepository, times(1)).save(userEntity);
-        verify(converter, times(1)).convertObject(userEntity, UserDTO.class);
+        verify(converter, times(1)).toUserDTO(userEntity);
+        verify(userCache, times(1)).invalidate(userEntity.getId());
+        verify(eventPublisher, times(1)).publishEvent(new UserCreatedEvent(userEntity.getId(), "John", "Doe"));
+        verify(userNameIndex, never()).index(any(), any(), any());
+        verify(dataVersion, times(1)).bump();
+    }
+
+    @Test
+    void shouldIndexUserNameWhenCreationIsCommitted() {
+        userService.onUserCreated(new UserCreatedEvent(1, "John", "Doe"));
+
+        verify(userNameIndex, times(1)).index(1, "John", "Doe");
     }
 
     @Test
@@ -94,7 +121,7 @@ public class UserServiceTest {
         List<UserDTO> userDTOs = Arrays.asList(userDTO, secondUserDTO);
 
         when(userRepository.findAll()).thenReturn(userEntities);
-        when(converter.convertList(userEntities, UserDTO.class)).thenReturn(userDTOs);
+        when(converter.toUserDTOList(userEntities)).thenReturn(userDTOs);
 
         List<UserDTO> result = userService.listAllUsers();
 
@@ -104,7 +131,8 @@ public class UserServiceTest {
         assertEquals(userDTOs, result);
 
         verify(userRepository, times(1)).findAll();
-        verify(converter, times(1)).convertList(userEntities, UserDTO.class);
+        verify(converter, times(1)).toUserDTOList(userEntities);
+        verifyNoInteractions(dataVersion);
     }
 
     @Test
@@ -113,7 +141,7 @@ public class UserServiceTest {
         List<UserDTO> emptyUserDTOList = Collections.emptyList();
 
         when(userRepository.findAll()).thenReturn(emptyUserList);
-        when(converter.convertList(emptyUserList, UserDTO.class)).thenReturn(emptyUserDTOList);
+        when(converter.toUserDTOList(emptyUserList)).thenReturn(emptyUserDTOList);
 
         List<UserDTO> result = userService.listAllUsers();
 
@@ -121,6 +149,32 @@ public class UserServiceTest {
         assertTrue(result.isEmpty());
 
         verify(userRepository, times(1)).findAll();
-        verify(converter, times(1)).convertList(emptyUserList, UserDTO.class);
+        verify(converter, times(1)).toUserDTOList(emptyUserList);
+    }
+
+    @Test
+    void shouldSearchUsersInRankOrderFromCache() {
+        UserDTO secondUserDTO = UserDTO.builder().id(2).firstName("Joana").lastName("Silva").build();
+        when(userNameIndex.search("jon", 20)).thenReturn(List.of(2, 1));
+        when(userCache.findAll(List.of(2, 1))).thenReturn(Map.of(1, userDTO, 2, secondUserDTO));
+
+        List<UserDTO> result = userService.searchUsers("jon", 20);
+
+        assertEquals(List.of(secondUserDTO, userDTO), result);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldNotLoadUsersWhenNoNameMatches() {
+        when(userNameIndex.search("xyz", 20)).thenReturn(List.of());
+
+        assertTrue(userService.searchUsers("xyz", 20).isEmpty());
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    void shouldRejectSearchLimitAboveMaximum() {
+        assertThrows(IllegalArgumentException.class, () -> userService.searchUsers("jon", 101));
+        verifyNoInteractions(userNameIndex);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.hackathon_AI.services;
+
+import com.hackathon_AI.config.ModelMapperConfig;
+import com.hackathon_AI.dto.request.CreateUserDTO;
+import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.index.UserNameIndex;
+import com.hackathon_AI.utils.Converter;
+import com.hackathon_AI.utils.TaskMapperImpl;
+import com.hackathon_AI.utils.UserMapperImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({UserService.class, Converter.class, UserMapperImpl.class, TaskMapperImpl.class, ModelMapperConfig.class,
+        UserCache.class, DataVersion.class, UserNameIndex.class})
+public class UserServiceTransactionTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserNameIndex userNameIndex;
+
+    @Test
+    void shouldKeepUsersCreatedInARolledBackTransactionOutOfTheNameIndex() {
+        userService.createUser(new CreateUserDTO("Fantasma", "Descartado", LocalDate.of(1990, 1, 1)));
+        assertThat(userNameIndex.search("Fantasma Descartado", 10)).isEmpty();
+
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThat(userNameIndex.search("Fantasma Descartado", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldIndexUserNameOnceTheTransactionCommits() {
+        UserDTO created = userService.createUser(new CreateUserDTO("Efetivado", "Gravado", LocalDate.of(1990, 1, 1)));
+        assertThat(userNameIndex.search("Efetivado Gravado", 10)).doesNotContain(created.getId());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertThat(userNameIndex.search("Efetivado Gravado", 10)).contains(created.getId());
+    }
+}
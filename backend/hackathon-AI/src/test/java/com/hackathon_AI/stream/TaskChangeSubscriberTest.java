@@ -0,0 +1,122 @@
+package com.hackathon_AI.stream;
+
+import com.hackathon_AI.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskChangeSubscriberTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 9, 0);
+
+    // runs the sender only when the test says so, which is how a slow client looks from the server
+    private final Queue<Runnable> sender = new ArrayDeque<>();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Test
+    void shouldCoalesceRepeatedChangesToTheSameTask() {
+        TaskChangeSubscriber subscriber = subscriber(10);
+
+        subscriber.offer(List.of(new TaskChange(1, false, TaskStatus.IN_PROGRESS, null, NOW)));
+        subscriber.offer(List.of(new TaskChange(2, false, TaskStatus.PENDING, 3, NOW)));
+        subscriber.offer(List.of(new TaskChange(1, false, null, 5, NOW.plusMinutes(1))));
+        runSender();
+
+        assertThat(emitter.changes()).containsExactly(
+                new TaskChange(1, false, TaskStatus.IN_PROGRESS, 5, NOW.plusMinutes(1)),
+                new TaskChange(2, false, TaskStatus.PENDING, 3, NOW));
+    }
+
+    @Test
+    void shouldKeepDeleteOverEarlierUpdates() {
+        TaskChangeSubscriber subscriber = subscriber(10);
+
+        subscriber.offer(List.of(new TaskChange(1, false, TaskStatus.COMPLETED, null, NOW)));
+        subscriber.offer(List.of(TaskChange.deleted(1)));
+        runSender();
+
+        assertThat(emitter.changes()).containsExactly(TaskChange.deleted(1));
+    }
+
+    @Test
+    void shouldDropBufferAndAskForResyncWhenClientFallsBehind() {
+        TaskChangeSubscriber subscriber = subscriber(2);
+
+        subscriber.offer(List.of(TaskChange.deleted(1), TaskChange.deleted(2), TaskChange.deleted(3)));
+        subscriber.offer(List.of(TaskChange.deleted(4)));
+        runSender();
+
+        assertThat(emitter.events).containsExactly(TaskChangeSubscriber.RESYNC_EVENT);
+
+        subscriber.offer(List.of(TaskChange.deleted(5)));
+        runSender();
+
+        assertThat(emitter.changes()).containsExactly(TaskChange.deleted(5));
+    }
+
+    @Test
+    void shouldScheduleOneSenderPerBurst() {
+        TaskChangeSubscriber subscriber = subscriber(10);
+
+        subscriber.offer(List.of(TaskChange.deleted(1)));
+        subscriber.offer(List.of(TaskChange.deleted(2)));
+
+        assertThat(sender).hasSize(1);
+    }
+
+    @Test
+    void shouldCloseWhenClientIsGone() {
+        TaskChangeSubscriber subscriber = subscriber(10);
+        emitter.failing = true;
+
+        subscriber.offer(List.of(TaskChange.deleted(1)));
+        runSender();
+        subscriber.offer(List.of(TaskChange.deleted(2)));
+
+        assertThat(closed).isTrue();
+        assertThat(sender).isEmpty();
+    }
+
+    private TaskChangeSubscriber subscriber(int bufferSize) {
+        return new TaskChangeSubscriber(emitter, bufferSize, sender::add, removed -> closed.set(true));
+    }
+
+    private void runSender() {
+        while (!sender.isEmpty()) {
+            sender.poll().run();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private final List<TaskChange> changes = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof TaskChange change) {
+                    changes.add(change);
+                } else if (part.getData() instanceof String text && text.startsWith("event:")) {
+                    events.add(text.substring("event:".length()).lines().findFirst().orElseThrow());
+                }
+            });
+        }
+
+        List<TaskChange> changes() {
+            return changes;
+        }
+    }
+}
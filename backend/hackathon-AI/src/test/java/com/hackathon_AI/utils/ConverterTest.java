@@ -1,14 +1,16 @@
 package com.hackathon_AI.utils;
 
+import com.hackathon_AI.dto.request.CreateUserDTO;
 import com.hackathon_AI.dto.response.TaskDTO;
 import com.hackathon_AI.dto.response.UserDTO;
+import com.hackathon_AI.model.Priority;
 import com.hackathon_AI.model.Task;
 import com.hackathon_AI.model.TaskStatus;
 import com.hackathon_AI.model.User;
+import com.hackathon_AI.services.UserCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
@@ -24,6 +26,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +35,9 @@ public class ConverterTest {
     @Mock
     private ModelMapper modelMapper;
 
-    @InjectMocks
+    @Mock
+    private UserCache userCache;
+
     private Converter converter;
 
     private User userCreator;
@@ -45,6 +50,8 @@ public class ConverterTest {
 
     @BeforeEach
     void setUp() {
+        converter = new Converter(modelMapper, new UserMapperImpl(), new TaskMapperImpl(userCache));
+
         userCreator = new User();
         userCreator.setId(1);
         userCreator.setFirstName("John");
@@ -79,7 +86,7 @@ public class ConverterTest {
         task.setCreator(userCreator);
         task.setAssignee(userAssignee);
         task.setTags(Arrays.asList("work", "urgent"));
-        task.setPriority("HIGH");
+        task.setPriority(Priority.HIGH);
         task.setStatus(TaskStatus.PENDING);
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
@@ -92,13 +99,18 @@ public class ConverterTest {
                 .creator(userDTOCreator)
                 .assignee(userDTOAssignee)
                 .tags(Arrays.asList("work", "urgent"))
-                .priority("HIGH")
+                .priority(Priority.HIGH)
                 .status(TaskStatus.PENDING)
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
 
+    private void stubUserCache() {
+        when(userCache.toDTO(userCreator)).thenReturn(userDTOCreator);
+        when(userCache.toDTO(userAssignee)).thenReturn(userDTOAssignee);
+    }
+
     @Test
     void convertObjectShouldConvertSourceToTarget() {
         when(modelMapper.map(userCreator, UserDTO.class)).thenReturn(userDTOCreator);
@@ -132,8 +144,33 @@ public class ConverterTest {
         verify(modelMapper, times(0)).map(any(), any());
     }
 
+    @Test
+    void toUserShouldCopyFieldsWithoutId() {
+        CreateUserDTO dto = new CreateUserDTO("John", "Doe", LocalDate.of(1990, 1, 1));
+
+        User result = converter.toUser(dto);
+
+        assertThat(result.getId()).isNull();
+        assertThat(result.getFirstName()).isEqualTo("John");
+        assertThat(result.getLastName()).isEqualTo("Doe");
+        assertThat(result.getBirthDate()).isEqualTo(dto.getBirthDate());
+        verifyNoInteractions(modelMapper);
+    }
+
+    @Test
+    void toUserDTOListShouldConvertUsersInOrder() {
+        List<UserDTO> result = converter.toUserDTOList(List.of(userCreator, userAssignee));
+
+        assertThat(result).extracting(UserDTO::getId).containsExactly(1, 2);
+        assertThat(result.get(0).getFirstName()).isEqualTo("John");
+        assertThat(result.get(0).getBirthDate()).isEqualTo(userCreator.getBirthDate());
+        assertThat(result.get(0).getAge()).isNotNull();
+        verifyNoInteractions(modelMapper);
+    }
+
     @Test
     void toTaskResponseDTOSuccessfullyConvertsTaskToTaskDTO() {
+        stubUserCache();
         TaskDTO result = converter.toTaskResponseDTO(task);
 
         assertThat(result.getId()).isEqualTo(task.getId());
@@ -151,6 +188,8 @@ public class ConverterTest {
 
     @Test
     void toTaskResponseDTOShouldHandleNullCreator() {
+        when(userCache.toDTO(null)).thenReturn(null);
+        when(userCache.toDTO(userAssignee)).thenReturn(userDTOAssignee);
         task.setCreator(null);
         TaskDTO result = converter.toTaskResponseDTO(task);
 
@@ -160,6 +199,8 @@ public class ConverterTest {
 
     @Test
     void toTaskResponseDTOShouldHandleNullAssignee() {
+        when(userCache.toDTO(userCreator)).thenReturn(userDTOCreator);
+        when(userCache.toDTO(null)).thenReturn(null);
         task.setAssignee(null);
         TaskDTO result = converter.toTaskResponseDTO(task);
 
@@ -187,17 +228,19 @@ public class ConverterTest {
         task2.setCreator(userCreator);
         task2.setAssignee(userAssignee);
         task2.setTags(Collections.singletonList("personal"));
-        task2.setPriority("LOW");
+        task2.setPriority(Priority.LOW);
         task2.setStatus(TaskStatus.COMPLETED);
         task2.setCreatedAt(LocalDateTime.now());
         task2.setUpdatedAt(LocalDateTime.now());
 
+        stubUserCache();
         List<Task> tasks = Arrays.asList(task, task2);
         List<TaskDTO> result = converter.toTaskResponseDTOList(tasks);
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getId()).isEqualTo(task.getId());
         assertThat(result.get(1).getId()).isEqualTo(task2.getId());
+        assertThat(result.get(1).getCreator()).isSameAs(result.get(0).getCreator());
     }
 
     @Test
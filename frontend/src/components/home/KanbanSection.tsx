@@ -85,7 +85,7 @@ export function KanbanSection({
         )
 
         try {
-          await updateTaskStatus(activeId, targetStatus)
+          await updateTaskStatus(activeId, targetStatus, taskToUpdate.version)
           console.log(`Task ${activeId} atualizada para status ${targetStatus}`)
           await onTaskUpdated()
         } catch (error) {
@@ -49,6 +49,7 @@ export function EditTaskModal({
       await updateTask(task.id, {
         ...data,
         id: task.id,
+        version: task.version,
       })
 
       onTaskUpdated()
@@ -78,9 +78,19 @@ const mapApiResponseToTask = (apiTask: any): Task => {
     createdAt: new Date(apiTask.createdAt),
     updatedAt: new Date(apiTask.updatedAt),
     endDate: apiTask.endDate,
+    version: apiTask.version,
   };
 };
 
+// If-Match com a versão conhecida: o backend responde 412 se a tarefa mudou desde então
+const ifMatch = (version?: number) =>
+  version === undefined ? undefined : { headers: { 'If-Match': `"${version}"` } };
+
+const conflictError = (error: any) =>
+  error?.response?.status === 412
+    ? new Error('Esta tarefa foi alterada por outra pessoa. Recarregue e tente novamente.')
+    : error;
+
 // --- Funções de Requisições da API de Tarefas ---
 
 // GET todas as tarefas (LIST-TASKS)
@@ -206,11 +216,11 @@ export const updateTask = async (id: string, taskData: Partial<Task>): Promise<T
     }
     if (taskData.endDate !== undefined) backendTaskData.endDate = taskData.endDate;
     
-    const response = await api.put(`/tasks/${id}`, backendTaskData);
+    const response = await api.put(`/tasks/${id}`, backendTaskData, ifMatch(taskData.version));
     return mapApiResponseToTask(response.data);
   } catch (error) {
     
-    throw error;
+    throw conflictError(error);
   }
 };
 
@@ -231,7 +241,11 @@ export const deleteTask = async (id: string): Promise<void> => {
 };
 
 // Atualizar status da tarefa (UPDATE-TASK-STATUS)
-export const updateTaskStatus = async (id: string, status: Status): Promise<Task> => {
+export const updateTaskStatus = async (
+  id: string,
+  status: Status,
+  version?: number
+): Promise<Pick<Task, 'id' | 'status' | 'updatedAt' | 'version'>> => {
   if (mockConfig.useMockData) {
     await delay(mockConfig.apiDelay);
     const updatedMockTask = updateMockTask(id, { status });
@@ -241,11 +255,17 @@ export const updateTaskStatus = async (id: string, status: Status): Promise<Task
 
   try {
     const backendStatus = mapStatusToBackend(status);
-    const response = await api.put(`/tasks/${id}/status`, { status: backendStatus });
-    return mapApiResponseToTask(response.data);
+    // o backend responde só { id, status, updatedAt, version }
+    const response = await api.put(`/tasks/${id}/status`, { status: backendStatus }, ifMatch(version));
+    return {
+      id: response.data.id.toString(),
+      status: mapStatusFromBackend(response.data.status),
+      updatedAt: new Date(response.data.updatedAt),
+      version: response.data.version ?? undefined,
+    };
   } catch (error) {
     
-    throw error;
+    throw conflictError(error);
   }
 };
 
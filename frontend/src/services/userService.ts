@@ -40,6 +40,25 @@ export const getUsers = async (): Promise<User[]> => {
   }
 }
 
+// Buscar usuários pelo nome, para o seletor de responsável, sem baixar a lista inteira
+export const searchUsers = async (query: string, limit = 20): Promise<User[]> => {
+  if (mockConfig.useMockData) {
+    await delay(mockConfig.apiDelay)
+    const term = query.trim().toLowerCase()
+    return getMockUsers()
+      .filter(user => `${user.firstName} ${user.lastName}`.toLowerCase().includes(term))
+      .slice(0, limit)
+  }
+
+  try {
+    const response = await api.get('/users/search', { params: { q: query, limit } })
+    return response.data.map(mapBackendToUser)
+  } catch (error) {
+    
+    throw error
+  }
+}
+
 export const createUser = async (data: CreateUserType): Promise<User> => {
   if (mockConfig.useMockData) {
     await delay(mockConfig.apiDelay)
@@ -15,4 +15,5 @@ export interface Task {
   updatedAt: Date;
 
   endDate?: string;
+  version?: number; // versão no backend, enviada em If-Match nas edições
 }
\ No newline at end of file